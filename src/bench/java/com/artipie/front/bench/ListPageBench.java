@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.bench;
+
+import com.artipie.front.ui.HbTemplateEngine;
+import com.artipie.front.ui.StaticAssets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spark.ModelAndView;
+
+/**
+ * Rendering of repository list page.
+ * The page is rendered with repository names only, types and ports are
+ * loaded by the browser.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListPageBench {
+    /**
+     * Number of repositories.
+     */
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    /**
+     * Template engine.
+     */
+    private HbTemplateEngine engine;
+
+    /**
+     * Page model.
+     */
+    private ModelAndView model;
+
+    /**
+     * Create engine and model, compile template.
+     */
+    @Setup
+    public void setup() {
+        this.engine = new HbTemplateEngine("/html", new StaticAssets("public"));
+        this.engine.preload("base", "repository/list");
+        final List<String> repos = new ArrayList<>(this.rows);
+        for (int idx = 0; idx < this.rows; ++idx) {
+            repos.add(String.format("repo-%05d", idx));
+        }
+        this.model = new ModelAndView(
+            Map.of("title", "Repository list", "repos", repos), "repository/list"
+        );
+    }
+
+    /**
+     * Render page.
+     * @return Rendered page
+     */
+    @Benchmark
+    public String render() {
+        return this.engine.render(this.model);
+    }
+}
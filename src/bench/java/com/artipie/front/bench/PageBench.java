@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.bench;
+
+import com.artipie.front.ui.HbTemplateEngine;
+import com.artipie.front.ui.StaticAssets;
+import com.artipie.front.ui.repository.RepositoryInfo;
+import com.artipie.front.ui.repository.RepositoryTemplate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spark.ModelAndView;
+
+/**
+ * Rendering of repository editor page, info templates and
+ * repository configuration templates.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageBench {
+    /**
+     * Repository type.
+     */
+    @Param({"maven", "docker", "npm", "pypi", "maven-proxy", "file-proxy"})
+    public String type;
+
+    /**
+     * Page template engine.
+     */
+    private HbTemplateEngine engine;
+
+    /**
+     * Info templates.
+     */
+    private RepositoryInfo info;
+
+    /**
+     * Configuration templates.
+     */
+    private RepositoryTemplate template;
+
+    /**
+     * Model of info and configuration templates.
+     */
+    private Map<String, Object> model;
+
+    /**
+     * Model of editor page.
+     */
+    private ModelAndView edit;
+
+    /**
+     * Create engines and models, compile templates.
+     */
+    @Setup
+    public void setup() {
+        this.engine = new HbTemplateEngine("/html", new StaticAssets("public"));
+        this.engine.preload("base", "repository/edit");
+        this.info = new RepositoryInfo();
+        this.template = new RepositoryTemplate();
+        this.model = Map.of("user", "alice", "repo", "my-repo", "type", this.type);
+        final StringBuilder conf = new StringBuilder("repo:\n")
+            .append(String.format("  type: %s\n", this.type))
+            .append("  storage:\n    type: fs\n    path: /var/artipie/data\n")
+            .append("  settings:\n");
+        for (int idx = 0; idx < 100; ++idx) {
+            conf.append(String.format("    setting-%d: value-%016d\n", idx, idx));
+        }
+        this.edit = new ModelAndView(
+            Map.of(
+                "title", "Repository my-repo",
+                "rname", "my-repo",
+                "conf", conf.toString(),
+                "info", this.info.render(this.type, this.model)
+            ),
+            "repository/edit"
+        );
+    }
+
+    /**
+     * Render repository editor page.
+     * @return Rendered page
+     */
+    @Benchmark
+    public String edit() {
+        return this.engine.render(this.edit);
+    }
+
+    /**
+     * Render info template.
+     * @return Rendered template
+     */
+    @Benchmark
+    public String info() {
+        return this.info.render(this.type, this.model);
+    }
+
+    /**
+     * Render repository configuration template.
+     * @return Rendered template
+     */
+    @Benchmark
+    public String template() {
+        return this.template.render(this.type, this.model);
+    }
+}
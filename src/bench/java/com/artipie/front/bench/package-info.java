@@ -0,0 +1,10 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+
+/**
+ * JMH benchmarks.
+ * @since 1.0
+ */
+package com.artipie.front.bench;
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.http.HttpStatus;
+import spark.Filter;
+import spark.Request;
+import spark.Spark;
+
+/**
+ * Admission control for upstream-heavy routes.
+ * Allows limited number of concurrent requests, next requests wait in
+ * bounded queue, requests beyond the queue are rejected at once with
+ * {@code 503} and {@code Retry-After} header.
+ * Jetty thread pool is sized as {@code limit + queue + reserved}, so
+ * reserved threads are always available for other routes, such as
+ * health check, sign in page and static assets.
+ * @since 1.0
+ */
+public final class AdmissionControl {
+    /**
+     * Request attribute of admitted request.
+     */
+    private static final String ADMITTED = "admission.permit";
+
+    /**
+     * Retry-After header value in seconds.
+     */
+    private static final String RETRY = "1";
+
+    /**
+     * Concurrency limit.
+     */
+    private final int limit;
+
+    /**
+     * Wait queue size.
+     */
+    private final int queue;
+
+    /**
+     * Threads reserved for other routes.
+     */
+    private final int reserved;
+
+    /**
+     * Max time to wait in queue.
+     */
+    private final Duration wait;
+
+    /**
+     * Permits.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Number of waiting requests.
+     */
+    private final AtomicInteger waiting;
+
+    /**
+     * Ctor.
+     * @param limit Concurrency limit
+     * @param queue Wait queue size
+     * @param reserved Threads reserved for other routes
+     * @param wait Max time to wait in queue
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public AdmissionControl(final int limit, final int queue, final int reserved,
+        final Duration wait) {
+        this.limit = limit;
+        this.queue = queue;
+        this.reserved = reserved;
+        this.wait = wait;
+        this.permits = new Semaphore(limit, true);
+        this.waiting = new AtomicInteger();
+    }
+
+    /**
+     * Max number of server threads.
+     * @return Threads number
+     */
+    public int threads() {
+        return this.limit + this.queue + this.reserved;
+    }
+
+    /**
+     * Number of admitted requests.
+     * @return Admitted requests
+     */
+    public int inflight() {
+        return this.limit - this.permits.availablePermits();
+    }
+
+    /**
+     * Number of requests waiting for admission.
+     * @return Waiting requests
+     */
+    public int waiting() {
+        return this.waiting.get();
+    }
+
+    /**
+     * Filter to admit request, should be registered as before-filter.
+     * @return Before filter
+     */
+    public Filter admit() {
+        return (req, rsp) -> {
+            if (!this.acquire()) {
+                rsp.header("Retry-After", AdmissionControl.RETRY);
+                Spark.halt(HttpStatus.SERVICE_UNAVAILABLE_503, "Service is overloaded");
+            }
+            req.attribute(AdmissionControl.ADMITTED, true);
+        };
+    }
+
+    /**
+     * Filter to release admitted request, should be registered
+     * as after-after filter.
+     * @return After-after filter
+     */
+    public Filter release() {
+        return (req, rsp) -> this.release(req);
+    }
+
+    /**
+     * Release permit of admitted request.
+     * @param req Request
+     */
+    private void release(final Request req) {
+        if (req.attribute(AdmissionControl.ADMITTED) != null) {
+            req.raw().removeAttribute(AdmissionControl.ADMITTED);
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Try to acquire permit.
+     * @return True if acquired
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private boolean acquire() throws InterruptedException {
+        boolean acquired = this.permits.tryAcquire();
+        if (!acquired && this.waiting.incrementAndGet() <= this.queue) {
+            try {
+                acquired = this.permits.tryAcquire(
+                    this.wait.toMillis(), TimeUnit.MILLISECONDS
+                );
+            } finally {
+                this.waiting.decrementAndGet();
+            }
+        } else if (!acquired) {
+            this.waiting.decrementAndGet();
+        }
+        return acquired;
+    }
+}
@@ -4,11 +4,16 @@
  */
 package com.artipie.front;
 
+import com.artipie.front.ui.StaticAssets;
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import org.eclipse.jetty.http.HttpStatus;
 import spark.Filter;
 import spark.Request;
 import spark.Response;
+import spark.Session;
 import spark.Spark;
 
 /**
@@ -23,9 +28,23 @@ public enum AuthFilters implements Filter {
      */
     AUTHENTICATE(
         (req, rsp) -> {
-            if ("/signin".equals(req.pathInfo()) || "/.health".equals(req.pathInfo())) {
+            if ("/signin".equals(req.pathInfo()) || "/.health".equals(req.pathInfo())
+                || "/.ready".equals(req.pathInfo()) || "/.metrics".equals(req.pathInfo())
+                || req.pathInfo().startsWith(StaticAssets.PREFIX)
+                || StaticAssets.LEGACY.stream().anyMatch(
+                    dir -> req.pathInfo().startsWith(String.format("%s/", dir))
+                )) {
                 return;
             }
+            if (req.session() != null && AuthFilters.expired(req.session())) {
+                Logger.info(
+                    AuthFilters.class, "token of %s expired, signing out",
+                    req.session().<String>attribute("uid")
+                );
+                req.session().removeAttribute("token");
+                req.session().removeAttribute("uid");
+                req.session().removeAttribute(AuthFilters.TOKEN_EXPIRY);
+            }
             if (req.session() == null || !req.session().attributes().contains("uid")) {
                 rsp.redirect("/signin");
                 Spark.halt(HttpStatus.UNAUTHORIZED_401);
@@ -57,6 +76,17 @@ public enum AuthFilters implements Filter {
         }
     );
 
+    /**
+     * Session attribute with token expiry in epoch seconds.
+     */
+    public static final String TOKEN_EXPIRY = "token_exp";
+
+    /**
+     * Token is considered expired this time before its expiry,
+     * so it doesn't expire while request is handled.
+     */
+    private static final Duration SKEW = Duration.ofSeconds(30);
+
     /**
      * Filter function.
      */
@@ -74,4 +104,15 @@ public enum AuthFilters implements Filter {
     public void handle(final Request req, final Response rsp) throws Exception {
         this.func.handle(req, rsp);
     }
+
+    /**
+     * Token of the session is expired or about to expire.
+     * @param session Session
+     * @return True if expired
+     */
+    private static boolean expired(final Session session) {
+        final Long exp = session.attribute(AuthFilters.TOKEN_EXPIRY);
+        return exp != null
+            && !Instant.now().plus(AuthFilters.SKEW).isBefore(Instant.ofEpochSecond(exp));
+    }
 }
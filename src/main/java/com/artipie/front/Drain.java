@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.eclipse.jetty.http.HttpStatus;
+import spark.Filter;
+import spark.Spark;
+
+/**
+ * Drain of in-flight requests on shutdown.
+ * Drain goes through three phases: first the service reports not-ready
+ * but keeps serving requests during grace period, so load balancer can
+ * stop routing traffic to it; then new requests are rejected with
+ * {@code 503} and {@code Connection: close}; finally it waits up to the
+ * deadline for active requests and upstream calls to complete.
+ * @since 1.0
+ */
+public final class Drain {
+    /**
+     * Request attribute of tracked request.
+     */
+    private static final String TRACKED = "drain.tracked";
+
+    /**
+     * Poll interval of active requests.
+     */
+    private static final long POLL = 50L;
+
+    /**
+     * Grace period between not-ready and rejecting new requests.
+     */
+    private final Duration grace;
+
+    /**
+     * Max time to wait for active requests.
+     */
+    private final Duration deadline;
+
+    /**
+     * Active requests.
+     */
+    private final AtomicInteger active;
+
+    /**
+     * Service is ready to accept traffic.
+     */
+    private volatile boolean accepting;
+
+    /**
+     * New requests are rejected.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Ctor.
+     * @param grace Grace period between not-ready and rejecting new requests
+     * @param deadline Max time to wait for active requests
+     */
+    public Drain(final Duration grace, final Duration deadline) {
+        this.grace = grace;
+        this.deadline = deadline;
+        this.active = new AtomicInteger();
+        this.accepting = true;
+    }
+
+    /**
+     * Service is ready to accept traffic.
+     * @return False if drain started
+     */
+    public boolean ready() {
+        return this.accepting;
+    }
+
+    /**
+     * Number of active requests.
+     * @return Active requests
+     */
+    public int active() {
+        return this.active.get();
+    }
+
+    /**
+     * Filter to track request, should be registered as before-filter after
+     * filters which measure requests, so rejected requests are still measured,
+     * and before authentication and admission filters, so it rejects requests
+     * before they do any work.
+     * @return Before filter
+     */
+    public Filter track() {
+        return (req, rsp) -> {
+            if (this.closed) {
+                rsp.header("Connection", "close");
+                Spark.halt(HttpStatus.SERVICE_UNAVAILABLE_503, "Service is shutting down");
+            }
+            this.active.incrementAndGet();
+            req.attribute(Drain.TRACKED, true);
+        };
+    }
+
+    /**
+     * Filter to untrack request, should be registered as after-after filter.
+     * @return After-after filter
+     */
+    public Filter untrack() {
+        return (req, rsp) -> {
+            if (req.attribute(Drain.TRACKED) != null) {
+                req.raw().removeAttribute(Drain.TRACKED);
+                this.active.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Drain requests.
+     * @param pending Number of pending upstream calls
+     * @return True if all requests and calls completed before deadline
+     * @throws InterruptedException If interrupted
+     */
+    public boolean drain(final IntSupplier pending) throws InterruptedException {
+        this.accepting = false;
+        TimeUnit.MILLISECONDS.sleep(this.grace.toMillis());
+        this.closed = true;
+        final long until = System.nanoTime() + this.deadline.toNanos();
+        while (this.busy(pending) && System.nanoTime() < until) {
+            TimeUnit.MILLISECONDS.sleep(Drain.POLL);
+        }
+        return !this.busy(pending);
+    }
+
+    /**
+     * Check if there are active requests or pending calls.
+     * @param pending Number of pending upstream calls
+     * @return True if busy
+     */
+    private boolean busy(final IntSupplier pending) {
+        return this.active.get() > 0 || pending.getAsInt() > 0;
+    }
+}
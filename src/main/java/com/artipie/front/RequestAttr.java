@@ -53,7 +53,12 @@ public interface RequestAttr<T> {
         /**
          * User ID attribute.
          */
-        USER_ID("uid");
+        USER_ID("uid"),
+
+        /**
+         * W3C trace context of the request, {@code traceparent} of server span.
+         */
+        TRACE_PARENT("traceparent");
 
         /**
          * Attribute name.
@@ -78,7 +83,7 @@ public interface RequestAttr<T> {
 
         @Override
         public Optional<String> read(final Request req) {
-            return Optional.of(req.attribute(this.name));
+            return Optional.ofNullable(req.attribute(this.name));
         }
 
         @Override
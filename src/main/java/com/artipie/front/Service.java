@@ -4,27 +4,74 @@
  */
 package com.artipie.front;
 
+import com.artipie.asto.fs.FileStorage;
+import com.artipie.front.api.ConfigSearch;
+import com.artipie.front.api.RepositoryChanges;
+import com.artipie.front.api.RepositoryConfigs;
+import com.artipie.front.api.RepositoryDetailsRest;
+import com.artipie.front.api.RepositoryEvents;
+import com.artipie.front.api.RepositoryEventsRest;
 import com.artipie.front.api.RepositoryInfoRest;
+import com.artipie.front.api.RepositoryListRest;
+import com.artipie.front.api.RepositorySearchRest;
 import com.artipie.front.api.RepositoryTemplateRest;
+import com.artipie.front.internal.AccessLog;
 import com.artipie.front.internal.HealthRoute;
+import com.artipie.front.internal.JvmMetrics;
+import com.artipie.front.internal.Metrics;
+import com.artipie.front.internal.MetricsRoute;
+import com.artipie.front.internal.ReadinessRoute;
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.internal.RouteMetrics;
+import com.artipie.front.jfr.RecordingRoute;
+import com.artipie.front.rest.AdaptiveLimit;
 import com.artipie.front.rest.AuthService;
-import com.artipie.front.rest.RepositoryService;
+import com.artipie.front.rest.CachedRepositoryService;
 import com.artipie.front.rest.SettingsService;
+import com.artipie.front.rest.UpstreamProbe;
+import com.artipie.front.session.CookieSessions;
+import com.artipie.front.session.MemoryStore;
+import com.artipie.front.session.SessionJettyFactory;
+import com.artipie.front.session.Sessions;
+import com.artipie.front.session.StorageStore;
+import com.artipie.front.session.StoreSessions;
+import com.artipie.front.trace.FileSpanExporter;
+import com.artipie.front.trace.SpanExporter;
+import com.artipie.front.trace.Tracing;
 import com.artipie.front.ui.HbTemplateEngine;
 import com.artipie.front.ui.PostSignIn;
 import com.artipie.front.ui.SignInPage;
+import com.artipie.front.ui.StaticAssets;
 import com.artipie.front.ui.repository.RepoCreate;
 import com.artipie.front.ui.repository.RepoEdit;
 import com.artipie.front.ui.repository.RepoList;
 import com.artipie.front.ui.repository.RepoRemove;
 import com.artipie.front.ui.repository.RepoSave;
+import com.artipie.front.ui.repository.RepoSearch;
 import com.artipie.front.ui.repository.RepositoryInfo;
 import com.artipie.front.ui.repository.RepositoryTemplate;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.json.Json;
 import javax.json.JsonException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -35,8 +82,12 @@ import org.apache.commons.cli.ParseException;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.http.MimeTypes;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import spark.ExceptionHandler;
 import spark.ModelAndView;
+import spark.TemplateViewRoute;
+import spark.embeddedserver.EmbeddedServers;
+import spark.embeddedserver.jetty.EmbeddedJettyFactory;
 
 /**
  * Front service.
@@ -63,21 +114,289 @@ public final class Service {
         "r", "rest", true, "The artipie rest endpoint. Default value http://localhost:8086"
     );
 
+    /**
+     * Name for argument of concurrency limit for upstream-heavy routes.
+     */
+    private static final Option LIMIT = new Option(
+        "l", "limit", true,
+        "max concurrent requests to repository pages. Should be int value. Default value 32"
+    );
+
+    /**
+     * Name for argument of wait queue size for upstream-heavy routes.
+     */
+    private static final Option QUEUE = new Option(
+        "q", "queue", true,
+        "max requests waiting for repository pages. Should be int value. Default value 64"
+    );
+
+    /**
+     * Name for argument of drain deadline on shutdown.
+     */
+    private static final Option DRAIN = new Option(
+        "d", "drain", true,
+        "max seconds to wait for active requests on shutdown. Default value 6"
+    );
+
+    /**
+     * Name for argument of slow request threshold.
+     */
+    private static final Option SLOW = new Option(
+        "s", "slow", true,
+        "requests slower than this number of milliseconds are logged. Default value 1000"
+    );
+
+    /**
+     * Name for argument of span export file.
+     */
+    private static final Option TRACE_FILE = new Option(
+        "e", "trace-file", true,
+        "file to write trace spans to as JSON lines. Spans are not exported by default"
+    );
+
+    /**
+     * Name for argument of admin users.
+     */
+    private static final Option ADMINS = new Option(
+        "a", "admins", true,
+        "comma separated IDs of users allowed to use admin endpoints. Default value is empty"
+    );
+
+    /**
+     * Name for argument of session storage mode.
+     */
+    private static final Option SESSIONS = new Option(
+        "m", "sessions", true,
+        "session storage: memory, cookie, bounded or storage. Default value memory"
+    );
+
+    /**
+     * Name for argument of cookie sessions secret.
+     */
+    private static final Option SESSION_KEY = new Option(
+        "k", "session-key", true,
+        "secret to encrypt cookie and storage sessions, the same for all replicas. "
+            + "Required for cookie and storage sessions"
+    );
+
+    /**
+     * Name for argument of max number of bounded sessions.
+     */
+    private static final Option SESSION_MAX = new Option(
+        "x", "session-max", true,
+        "max number of bounded sessions, least recently used are evicted. Default value 10000"
+    );
+
+    /**
+     * Name for argument of session idle time.
+     */
+    private static final Option SESSION_IDLE = new Option(
+        "i", "session-idle", true,
+        "minutes after which idle bounded and storage sessions expire. Default value 30"
+    );
+
+    /**
+     * Name for argument of session storage directory.
+     */
+    private static final Option SESSION_PATH = new Option(
+        "g", "session-path", true,
+        "directory of storage sessions. Default value sessions"
+    );
+
+    /**
+     * Name for argument of training run.
+     */
+    private static final Option TRAINING = new Option(
+        "t", "training", false,
+        "start service, request main pages and exit, used to create class data sharing archive"
+    );
+
+    /**
+     * Pages requested by training run.
+     */
+    private static final List<String> TRAINING_PAGES = List.of(
+        "/.health", "/.ready", "/signin", "/dashboard", "/css/style.css",
+        "/scripts/jquery-3.6.1.min.js", "/images/searchicon.png"
+    );
+
+    /**
+     * Grace period between reporting not-ready and rejecting new requests on shutdown.
+     * Together with default drain deadline it fits into default 10 seconds
+     * stop timeout of Docker.
+     */
+    private static final Duration GRACE = Duration.ofSeconds(2);
+
+    /**
+     * Threads reserved for health check, sign in and static assets.
+     */
+    private static final int RESERVED = 16;
+
+    /**
+     * Max time to wait in admission queue.
+     */
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    /**
+     * Interval of Artipie reachability probe.
+     */
+    private static final Duration PROBE = Duration.ofSeconds(5);
+
+    /**
+     * Max latency of reachable Artipie.
+     */
+    private static final Duration PROBE_LATENCY = Duration.ofSeconds(2);
+
+    /**
+     * Number of failed Artipie probes in a row to report not-ready.
+     */
+    private static final int PROBE_FAILURES = 3;
+
+    /**
+     * Max age of cookie sessions.
+     */
+    private static final Duration SESSION_AGE = Duration.ofHours(12);
+
+    /**
+     * Time to live of cached repository lists and configurations.
+     */
+    private static final Duration REPO_CACHE = Duration.ofSeconds(30);
+
+    /**
+     * Time to live of repository configurations shared by repository list,
+     * details and search; saved and removed ones are dropped at once.
+     */
+    private static final Duration CONFIG_CACHE = Duration.ofMinutes(5);
+
+    /**
+     * Interval of repository list refresh for repository events.
+     */
+    private static final Duration EVENTS_REFRESH = Duration.ofSeconds(15);
+
+    /**
+     * Max duration of repository events stream before browser reconnects.
+     */
+    private static final Duration EVENTS_STREAM = Duration.ofMinutes(5);
+
+    /**
+     * Time after the last search index of repository configurations of the
+     * user is dropped.
+     */
+    private static final Duration CONFIG_IDLE = Duration.ofMinutes(10);
+
+    /**
+     * Capacity of access log buffer.
+     */
+    private static final int ACCESS_LOG = 8192;
+
     /**
      * Spark service instance.
      */
     private volatile spark.Service ignite;
 
+    /**
+     * Static assets.
+     */
+    private final StaticAssets assets;
+
     /**
      * Template engine.
      */
     private final HbTemplateEngine engine;
 
+    /**
+     * Admission control for upstream-heavy routes.
+     */
+    private final AdmissionControl admission;
+
+    /**
+     * Adaptive limit of in-flight upstream requests.
+     */
+    private final AdaptiveLimit upstream;
+
+    /**
+     * Drain of in-flight requests on shutdown.
+     */
+    private final Drain drain;
+
+    /**
+     * Metrics registry.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Route metrics.
+     */
+    private final RouteMetrics routes;
+
+    /**
+     * Request timing.
+     */
+    private final RequestTiming timing;
+
+    /**
+     * Access log.
+     */
+    private final AccessLog access;
+
+    /**
+     * Artipie reachability probe, created on start.
+     */
+    private volatile UpstreamProbe probe;
+
+    /**
+     * Repository events, created on start.
+     */
+    private volatile RepositoryEvents events;
+
+    /**
+     * Repository configurations search, created on start.
+     */
+    private volatile ConfigSearch search;
+
+    /**
+     * Background warm-up, started on start.
+     */
+    private volatile CompletableFuture<Void> warm;
+
+    /**
+     * Trace context of requests.
+     */
+    private final Tracing tracing;
+
+    /**
+     * IDs of admin users.
+     */
+    private final Set<String> admins;
+
+    /**
+     * Session storage.
+     */
+    private final Sessions sessions;
+
     /**
      * Service constructor.
+     * @param admission Admission control for upstream-heavy routes
+     * @param drain Drain of in-flight requests on shutdown
+     * @param timing Request timing
+     * @param tracing Trace context of requests
+     * @param admins IDs of admin users
+     * @param sessions Session storage
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    Service() {
-        this.engine = new HbTemplateEngine("/html");
+    Service(final AdmissionControl admission, final Drain drain, final RequestTiming timing,
+        final Tracing tracing, final Set<String> admins, final Sessions sessions) {
+        this.admission = admission;
+        this.drain = drain;
+        this.timing = timing;
+        this.tracing = tracing;
+        this.admins = admins;
+        this.sessions = sessions;
+        this.access = new AccessLog(Service.ACCESS_LOG);
+        this.upstream = new AdaptiveLimit();
+        this.metrics = new Metrics();
+        this.routes = new RouteMetrics(this.metrics);
+        this.assets = new StaticAssets("public");
+        this.engine = new HbTemplateEngine("/html", this.assets);
     }
 
     /**
@@ -90,16 +409,60 @@ public final class Service {
         final Options options = new Options();
         options.addOption(Service.PORT);
         options.addOption(Service.REST);
+        options.addOption(Service.LIMIT);
+        options.addOption(Service.QUEUE);
+        options.addOption(Service.DRAIN);
+        options.addOption(Service.SLOW);
+        options.addOption(Service.TRACE_FILE);
+        options.addOption(Service.ADMINS);
+        options.addOption(Service.SESSIONS);
+        options.addOption(Service.SESSION_KEY);
+        options.addOption(Service.SESSION_MAX);
+        options.addOption(Service.SESSION_IDLE);
+        options.addOption(Service.SESSION_PATH);
+        options.addOption(Service.TRAINING);
         final CommandLineParser parser = new DefaultParser();
         final CommandLine cmd;
         try {
             cmd = parser.parse(options, args);
-            final var service = new Service();
+            final var service = new Service(
+                new AdmissionControl(
+                    Integer.parseInt(new Param(Service.LIMIT, "ARTIPIE_LIMIT", "32").get(cmd)),
+                    Integer.parseInt(new Param(Service.QUEUE, "ARTIPIE_QUEUE", "64").get(cmd)),
+                    Service.RESERVED,
+                    Service.WAIT
+                ),
+                new Drain(
+                    Service.GRACE,
+                    Duration.ofSeconds(
+                        Long.parseLong(new Param(Service.DRAIN, "ARTIPIE_DRAIN", "6").get(cmd))
+                    )
+                ),
+                new RequestTiming(
+                    Duration.ofMillis(
+                        Long.parseLong(new Param(Service.SLOW, "ARTIPIE_SLOW", "1000").get(cmd))
+                    )
+                ),
+                new Tracing(
+                    Optional.of(new Param(Service.TRACE_FILE, "ARTIPIE_TRACE_FILE", "").get(cmd))
+                        .filter(file -> !file.isEmpty())
+                        .<SpanExporter>map(file -> new FileSpanExporter(Paths.get(file)))
+                        .orElse(SpanExporter.NONE)
+                ),
+                Arrays.stream(new Param(Service.ADMINS, "ARTIPIE_ADMINS", "").get(cmd).split(","))
+                    .map(String::trim).filter(uid -> !uid.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet()),
+                Service.sessions(cmd)
+            );
             service.start(
                 Integer.parseInt(new Param(Service.PORT, "ARTIPIE_PORT", "8080").get(cmd)),
                 new Param(Service.REST, "ARTIPIE_REST", "http://localhost:8086").get(cmd)
             );
-            Runtime.getRuntime().addShutdownHook(new Thread(service::stop, "shutdown"));
+            if (cmd.hasOption(Service.TRAINING)) {
+                service.train();
+            } else {
+                Runtime.getRuntime().addShutdownHook(new Thread(service::stop, "shutdown"));
+            }
         } catch (final ParseException ex) {
             final HelpFormatter formatter = new HelpFormatter();
             formatter.printHelp("com.artipie.front.Service", options);
@@ -107,6 +470,63 @@ public final class Service {
         }
     }
 
+    /**
+     * Session storage from command line or environment.
+     * @param cmd Command line
+     * @return Session storage
+     */
+    private static Sessions sessions(final CommandLine cmd) {
+        final String mode = new Param(Service.SESSIONS, "ARTIPIE_SESSIONS", "memory").get(cmd);
+        final Sessions res;
+        if ("memory".equals(mode)) {
+            res = Sessions.JETTY;
+        } else if ("cookie".equals(mode)) {
+            res = new CookieSessions(
+                new Param(Service.SESSION_KEY, "ARTIPIE_SESSION_KEY", "").get(cmd),
+                Service.SESSION_AGE
+            );
+        } else if ("bounded".equals(mode)) {
+            res = new StoreSessions(
+                new MemoryStore(
+                    Integer.parseInt(
+                        new Param(Service.SESSION_MAX, "ARTIPIE_SESSION_MAX", "10000").get(cmd)
+                    ),
+                    Service.idle(cmd)
+                ),
+                Service.idle(cmd)
+            );
+        } else if ("storage".equals(mode)) {
+            res = new StoreSessions(
+                new StorageStore(
+                    new FileStorage(
+                        Paths.get(
+                            new Param(Service.SESSION_PATH, "ARTIPIE_SESSION_PATH", "sessions")
+                                .get(cmd)
+                        )
+                    ),
+                    new Param(Service.SESSION_KEY, "ARTIPIE_SESSION_KEY", "").get(cmd)
+                ),
+                Service.idle(cmd)
+            );
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown session storage: %s", mode)
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Idle time of sessions from command line or environment.
+     * @param cmd Command line
+     * @return Idle time
+     */
+    private static Duration idle(final CommandLine cmd) {
+        return Duration.ofMinutes(
+            Long.parseLong(new Param(Service.SESSION_IDLE, "ARTIPIE_SESSION_IDLE", "30").get(cmd))
+        );
+    }
+
     /**
      * Start service.
      * @param port Port for service
@@ -117,23 +537,69 @@ public final class Service {
             throw new IllegalStateException("already started");
         }
         Logger.info(this, "starting service on port: %d", port);
+        final long start = System.currentTimeMillis();
+        final QueuedThreadPool pool = SessionJettyFactory.pool(this.admission.threads());
+        EmbeddedServers.add(
+            EmbeddedServers.Identifiers.JETTY,
+            new EmbeddedJettyFactory(new SessionJettyFactory(this.sessions)).withThreadPool(pool)
+        );
         this.ignite = spark.Service.ignite().port(port);
-        this.ignite.staticFileLocation("public");
-        this.ignite.get("/.health", new HealthRoute());
+        this.ignite.get(
+            String.format("%s/*", StaticAssets.PREFIX), this.routes.route(this.assets)
+        );
+        for (final String dir : StaticAssets.LEGACY) {
+            this.ignite.get(
+                String.format("%s/*", dir), this.routes.route(this.assets.original())
+            );
+        }
+        this.ignite.get("/.health", this.routes.route(new HealthRoute()));
+        this.probe = new UpstreamProbe(
+            rest, this.metrics, Service.PROBE, Service.PROBE_LATENCY, Service.PROBE_FAILURES
+        );
+        this.ignite.get(
+            "/.ready",
+            this.routes.route(
+                new ReadinessRoute(() -> this.drain.ready() && this.probe.reachable())
+            )
+        );
+        this.ignite.get("/.metrics", new MetricsRoute(this.metrics));
+        this.registerMetrics(pool);
+        this.access.start();
+        this.probe.start();
         final RepositoryInfo info = new RepositoryInfo();
         final RepositoryTemplate template = new RepositoryTemplate();
+        final CachedRepositoryService repository = new CachedRepositoryService(
+            rest, this.upstream, this.metrics, Service.REPO_CACHE
+        );
+        final SettingsService settings = new SettingsService(rest, this.upstream, this.metrics);
+        this.events = new RepositoryEvents(repository, Service.EVENTS_REFRESH, this.tracing);
+        this.events.start();
+        final RepositoryConfigs summaries = new RepositoryConfigs(
+            repository, settings, Service.CONFIG_CACHE
+        );
+        this.search = new ConfigSearch(
+            repository, summaries, Service.REPO_CACHE, Service.CONFIG_IDLE
+        );
+        this.search.start();
+        final RepositoryChanges changes = new RepositoryChanges.All(
+            summaries, this.events, this.search
+        );
         this.ignite.path(
             "/signin",
             () -> {
                 this.ignite.get(
                     "",
                     MimeTypes.Type.APPLICATION_JSON.asString(),
-                    new SignInPage(),
+                    this.routes.page(new SignInPage()),
                     this.engine
                 );
                 this.ignite.post(
                     "",
-                    new PostSignIn(new AuthService(rest))
+                    this.routes.route(
+                        new PostSignIn(
+                            new AuthService(rest, this.upstream, this.metrics), repository::warm
+                        )
+                    )
                 );
             }
         );
@@ -142,74 +608,284 @@ public final class Service {
             () -> {
                 this.ignite.get(
                     "",
-                    (req, rsp) -> {
-                        if (req.session() != null) {
-                            req.session().invalidate();
+                    this.routes.route(
+                        (req, rsp) -> {
+                            if (req.session() != null) {
+                                req.session().invalidate();
+                            }
+                            rsp.redirect("/dashboard");
+                            return "Ok";
                         }
-                        rsp.redirect("/dashboard");
-                        return "Ok";
-                    }
+                    )
                 );
             }
         );
         this.ignite.path(
             "/api",
             () -> {
-                this.ignite.post("/template", new RepositoryTemplateRest(template));
-                this.ignite.post("/info", new RepositoryInfoRest(info));
+                this.ignite.post(
+                    "/template", this.routes.route(new RepositoryTemplateRest(template))
+                );
+                this.ignite.post("/info", this.routes.route(new RepositoryInfoRest(info)));
+                this.ignite.get(
+                    "/repository/list",
+                    this.routes.route(new RepositoryListRest(repository, summaries))
+                );
+                this.ignite.post(
+                    "/repository/details",
+                    this.routes.route(new RepositoryDetailsRest(summaries))
+                );
+                this.ignite.get(
+                    "/repository/search",
+                    this.routes.route(
+                        new RepositorySearchRest(repository, summaries, Service.REPO_CACHE)
+                    )
+                );
+                this.ignite.get(
+                    "/repository/events",
+                    this.routes.route(new RepositoryEventsRest(this.events, Service.EVENTS_STREAM))
+                );
             }
         );
+        this.ignite.get(
+            "/admin/recording", this.routes.route(new RecordingRoute(this.admins))
+        );
         this.ignite.path(
             "/dashboard",
             () -> {
                 this.ignite.get(
                     "",
-                    (req, res) -> {
-                        res.redirect("/dashboard/repository/list");
-                        return "Ok";
-                    }
+                    this.routes.route(
+                        (req, res) -> {
+                            res.redirect("/dashboard/repository/list");
+                            return "Ok";
+                        }
+                    )
                 );
-                final RepositoryService repository = new RepositoryService(rest);
-                final SettingsService settings = new SettingsService(rest);
                 this.ignite.path(
                     "/repository", () -> {
                         this.ignite.get(
-                            "/list", new RepoList(repository, settings), this.engine
+                            "/list",
+                            this.routes.page(new RepoList(repository)),
+                            this.engine
+                        );
+                        this.ignite.get("/create", this.routes.page(new RepoCreate()), this.engine);
+                        this.ignite.get(
+                            "/search", this.routes.page(new RepoSearch(this.search)), this.engine
+                        );
+                        final TemplateViewRoute edit = this.routes.page(
+                            new RepoEdit(repository, info)
                         );
-                        this.ignite.get("/create", new RepoCreate(), this.engine);
-                        final RepoEdit edit = new RepoEdit(repository, info);
                         this.ignite.get("/edit/:repo", edit, this.engine);
                         this.ignite.get("/edit/:user/:repo", edit, this.engine);
-                        final RepoSave save = new RepoSave(repository);
+                        final TemplateViewRoute save = this.routes.page(
+                            new RepoSave(repository, changes)
+                        );
                         this.ignite.post("/update/:repo", save, this.engine);
                         this.ignite.post("/update/:user/:repo", save, this.engine);
-                        final RepoRemove remove = new RepoRemove(repository);
+                        final TemplateViewRoute remove = this.routes.page(
+                            new RepoRemove(repository, changes)
+                        );
                         this.ignite.post("/remove/:repo", remove, this.engine);
                         this.ignite.post("/remove/:user/:repo", remove, this.engine);
                     }
                 );
             }
         );
+        this.ignite.before(this.routes.start());
+        this.ignite.afterAfter(this.routes.finish());
+        this.ignite.before(this.tracing.start());
+        this.ignite.afterAfter(this.tracing.finish());
+        this.ignite.before(this.timing.start());
+        this.ignite.afterAfter(this.timing.finish());
+        this.ignite.afterAfter(this.access.log());
+        this.ignite.before(this.drain.track());
+        this.ignite.afterAfter(this.drain.untrack());
         this.ignite.before(AuthFilters.AUTHENTICATE);
         this.ignite.before(AuthFilters.SESSION_ATTRS);
+        this.ignite.before("/dashboard/repository/*", this.admission.admit());
+        this.ignite.afterAfter("/dashboard/repository/*", this.admission.release());
+        this.ignite.before("/api/repository/*", this.admission.admit());
+        this.ignite.afterAfter("/api/repository/*", this.admission.release());
         this.ignite.exception(JsonException.class, Service.error(HttpStatus.BAD_REQUEST_400));
         this.ignite.exception(JsonParseException.class, Service.error(HttpStatus.BAD_REQUEST_400));
         this.ignite.exception(RestException.class, this.restError());
         this.ignite.exception(Exception.class, this.error());
         this.ignite.awaitInitialization();
-        Logger.info(this, "service started on port: %d", this.ignite.port());
+        Logger.info(
+            this, "service started on port: %d in %[ms]s",
+            this.ignite.port(), System.currentTimeMillis() - start
+        );
+        this.warm = CompletableFuture.runAsync(() -> this.warmUp(info, template));
+    }
+
+    /**
+     * Port of started service.
+     * @return Port number
+     */
+    int port() {
+        return this.ignite.port();
+    }
+
+    /**
+     * Load static assets and compile page, info and repository templates
+     * in background after the port is opened, so the first repository
+     * edit doesn't create template engines.
+     * @param info Repository info renderer
+     * @param template Repository template renderer
+     */
+    private void warmUp(final RepositoryInfo info, final RepositoryTemplate template) {
+        final long start = System.currentTimeMillis();
+        this.assets.preload();
+        info.preload();
+        template.preload();
+        this.engine.preload(
+            "base", "signin", "error", "restError", "repository/list", "repository/search",
+            "repository/create", "repository/edit", "repository/result"
+        );
+        Logger.info(this, "service warmed up in %[ms]s", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Training run: request main pages to load their classes, wait for
+     * warm-up to load classes of template engines and stop service.
+     * It's used with {@code -XX:ArchiveClassesAtExit} JVM option to create
+     * class data sharing archive.
+     */
+    void train() {
+        final HttpClient client = HttpClient.newHttpClient();
+        for (final String page : Service.TRAINING_PAGES) {
+            try {
+                Logger.info(
+                    this, "training request %s: %d", page,
+                    client.send(
+                        HttpRequest.newBuilder(
+                            URI.create(
+                                String.format(
+                                    "http://localhost:%d%s",
+                                    this.ignite.port(), this.assets.url(page)
+                                )
+                            )
+                        ).build(),
+                        HttpResponse.BodyHandlers.discarding()
+                    ).statusCode()
+                );
+            } catch (final IOException err) {
+                Logger.warn(this, "training request %s failed: %[exception]s", page, err);
+            } catch (final InterruptedException err) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        this.warm.join();
+        this.ignite.stop();
+        this.ignite.awaitStop();
+        Logger.info(this, "training completed");
     }
 
     /**
      * Stop service.
+     * Drains active requests and pending upstream calls before stopping.
      */
     void stop() {
+        Logger.info(this, "draining service");
+        try {
+            if (!this.drain.drain(this.upstream::getInflight)) {
+                Logger.warn(
+                    this, "drain deadline exceeded, %d requests are still active",
+                    this.drain.active()
+                );
+            }
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            Logger.warn(this, "drain interrupted");
+        }
         Logger.info(this, "stopping service");
         this.ignite.stop();
         this.ignite.awaitStop();
+        this.probe.stop();
+        this.events.stop();
+        this.search.stop();
+        try {
+            this.access.stop();
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+        }
         Logger.info(this, "service stopped");
     }
 
+    /**
+     * Register JVM, server and upstream metrics, also expose upstream
+     * requests limit in JMX.
+     * @param pool Server thread pool
+     */
+    private void registerMetrics(final QueuedThreadPool pool) {
+        new JvmMetrics(this.metrics).register();
+        this.metrics.gauge(
+            "front_server_threads_max", "Max number of server threads", pool::getMaxThreads
+        );
+        this.metrics.gauge(
+            "front_server_threads", "Number of server threads", pool::getThreads
+        );
+        this.metrics.gauge(
+            "front_server_threads_busy", "Number of server threads running jobs",
+            pool::getBusyThreads
+        );
+        this.metrics.gauge(
+            "front_server_threads_idle", "Number of idle server threads", pool::getIdleThreads
+        );
+        this.metrics.gauge(
+            "front_server_queue_size", "Number of jobs waiting for server thread",
+            pool::getQueueSize
+        );
+        this.metrics.gauge(
+            "front_http_requests_active", "Number of active HTTP requests", this.drain::active
+        );
+        this.metrics.gauge(
+            "front_admission_inflight", "Number of admitted requests to repository pages",
+            this.admission::inflight
+        );
+        this.metrics.gauge(
+            "front_admission_waiting", "Number of requests waiting for admission",
+            this.admission::waiting
+        );
+        this.metrics.gauge(
+            "front_upstream_limit", "Limit of in-flight requests to Artipie",
+            this.upstream::getLimit
+        );
+        this.metrics.gauge(
+            "front_upstream_inflight", "Number of in-flight requests to Artipie",
+            this.upstream::getInflight
+        );
+        this.metrics.gauge(
+            "front_upstream_latency_seconds", "Smoothed latency of requests to Artipie",
+            () -> this.upstream.getLatencyMillis() / TimeUnit.SECONDS.toMillis(1)
+        );
+        this.metrics.counter(
+            "front_upstream_rejected_total", "Requests to Artipie rejected by the limit",
+            this.upstream::getRejected
+        );
+        this.metrics.gauge(
+            "front_upstream_up", "Artipie is reachable according to the last probe",
+            () -> Boolean.compare(this.probe.reachable(), false)
+        );
+        this.metrics.gauge(
+            "front_upstream_probe_latency_seconds", "Latency of the last Artipie probe",
+            this.probe::latency
+        );
+        this.metrics.counter(
+            "front_access_log_dropped_total", "Access log records dropped on overload",
+            this.access::dropped
+        );
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                this.upstream, new ObjectName("com.artipie.front:type=AdaptiveLimit")
+            );
+        } catch (final JMException err) {
+            Logger.warn(this, "failed to register upstream limit metrics: %[exception]s", err);
+        }
+    }
+
     /**
      * Handle exceptions by writing error in json body and returning
      * provided status.
@@ -229,11 +905,15 @@ public final class Service {
 
     /**
      * Handle RestException by rendering html-page with errorMessage and http status code
-     * received from rest service.
+     * received from rest service; {@code /api} requests get json error with the status.
      * @return Instance of {@link ExceptionHandler}
      */
     private ExceptionHandler<RestException> restError() {
         return (exc, rqs, rsp) -> {
+            if (rqs.pathInfo().startsWith("/api/")) {
+                Service.error(exc.statusCode()).handle(exc, rqs, rsp);
+                return;
+            }
             rsp.type(MimeTypes.Type.TEXT_HTML.asString());
             rsp.body(
                 this.engine.render(
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Inverted index of repository configurations.
+ * Configuration is indexed as fields: path of every scalar value, like
+ * {@code repo.remote.url} or {@code repo.permissions.alice[0]}, and the
+ * value. Path and value are split to lower case tokens by non-alphanumeric
+ * characters; repository matches the query if it has every query token,
+ * matched fields are fields with any of query tokens. Repositories are
+ * added, replaced and removed one by one, so the index is updated
+ * incrementally.
+ * @since 1.0
+ */
+final class ConfigIndex {
+    /**
+     * Fields of repositories by token: token, repository name, field paths.
+     */
+    private final Map<String, Map<String, Set<String>>> postings;
+
+    /**
+     * Indexed fields by repository name: path and value.
+     */
+    private final Map<String, Map<String, String>> repos;
+
+    /**
+     * Versions of indexed configurations by repository name.
+     */
+    private final Map<String, Integer> versions;
+
+    /**
+     * Ctor.
+     */
+    ConfigIndex() {
+        this.postings = new HashMap<>();
+        this.repos = new HashMap<>();
+        this.versions = new HashMap<>();
+    }
+
+    /**
+     * Add or replace repository configuration.
+     * @param name Repository name
+     * @param version Configuration version, e.g. hash code of its content
+     * @param fields Configuration fields by path
+     */
+    synchronized void put(final String name, final int version,
+        final Map<String, String> fields) {
+        this.remove(name);
+        this.repos.put(name, Map.copyOf(fields));
+        this.versions.put(name, version);
+        fields.forEach(
+            (path, value) -> {
+                final Set<String> tokens = ConfigIndex.tokens(path);
+                tokens.addAll(ConfigIndex.tokens(value));
+                tokens.forEach(
+                    token -> this.postings.computeIfAbsent(token, key -> new HashMap<>())
+                        .computeIfAbsent(name, key -> new HashSet<>()).add(path)
+                );
+            }
+        );
+    }
+
+    /**
+     * Remove repository configuration.
+     * @param name Repository name
+     */
+    synchronized void remove(final String name) {
+        final Map<String, String> fields = this.repos.remove(name);
+        this.versions.remove(name);
+        if (fields != null) {
+            fields.forEach(
+                (path, value) -> {
+                    final Set<String> tokens = ConfigIndex.tokens(path);
+                    tokens.addAll(ConfigIndex.tokens(value));
+                    for (final String token : tokens) {
+                        final Map<String, Set<String>> found = this.postings.get(token);
+                        if (found != null) {
+                            found.remove(name);
+                            if (found.isEmpty()) {
+                                this.postings.remove(token);
+                            }
+                        }
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Indexed repositories with versions of their configurations.
+     * @return Versions by repository name
+     */
+    synchronized Map<String, Integer> versions() {
+        return Map.copyOf(this.versions);
+    }
+
+    /**
+     * Search repositories by configuration content.
+     * @param query Query
+     * @param limit Max number of repositories
+     * @return Matched fields, path and value, by repository name sorted by name
+     */
+    synchronized Map<String, Map<String, String>> search(final String query,
+        final int limit) {
+        final Set<String> tokens = ConfigIndex.tokens(query);
+        final List<Map<String, Set<String>>> found = new ArrayList<>(tokens.size());
+        for (final String token : tokens) {
+            found.add(this.postings.getOrDefault(token, Map.of()));
+        }
+        final Map<String, Map<String, String>> res = new TreeMap<>();
+        if (!found.isEmpty()) {
+            found.sort((first, second) -> Integer.compare(first.size(), second.size()));
+            new TreeSet<>(found.get(0).keySet()).stream()
+                .filter(name -> found.stream().allMatch(repos -> repos.containsKey(name)))
+                .limit(limit)
+                .forEach(
+                    name -> {
+                        final Map<String, String> fields = new TreeMap<>();
+                        found.forEach(
+                            repos -> repos.get(name).forEach(
+                                path -> fields.put(path, this.repos.get(name).get(path))
+                            )
+                        );
+                        res.put(name, fields);
+                    }
+                );
+        }
+        return res;
+    }
+
+    /**
+     * Lower case tokens of text.
+     * @param text Text
+     * @return Tokens
+     */
+    private static Set<String> tokens(final String text) {
+        final Set<String> res = new HashSet<>(
+            Arrays.asList(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+        );
+        res.remove("");
+        return res;
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.RestException;
+import com.artipie.front.misc.Yaml2Json;
+import com.artipie.front.rest.RepositoryService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * Full-text search of repository configurations of users.
+ * Every user has {@link ConfigIndex} which is kept up to date in background,
+ * searches only read the index and never call Artipie. The index is built
+ * on virtual thread after the first search, then every refresh interval
+ * repository list is compared with the index and configurations are taken
+ * from {@link RepositoryConfigs}; only repositories with changed version are
+ * reindexed, so configurations edited outside the front are picked up when
+ * the shared cache reloads them. Repositories saved through the front are
+ * reindexed in background at once, removed ones are dropped from the index.
+ * Index of the user is dropped when the user doesn't search for idle time.
+ * @since 1.0
+ */
+public final class ConfigSearch implements RepositoryChanges {
+    /**
+     * Max concurrent Artipie calls indexing one user.
+     */
+    private static final int PARALLEL = 8;
+
+    /**
+     * Max number of indexed users.
+     */
+    private static final int SIZE = 1000;
+
+    /**
+     * Repository service.
+     */
+    private final RepositoryService repository;
+
+    /**
+     * Repository configurations.
+     */
+    private final RepositoryConfigs configs;
+
+    /**
+     * Interval of index refresh.
+     */
+    private final Duration interval;
+
+    /**
+     * Indexes by user ID.
+     */
+    private final Cache<String, UserIndex> users;
+
+    /**
+     * Refresh scheduler.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Indexing workers.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Ctor.
+     * @param repository Repository service
+     * @param configs Repository configurations
+     * @param interval Interval of index refresh
+     * @param idle Time after the last search index of the user is dropped
+     */
+    public ConfigSearch(final RepositoryService repository, final RepositoryConfigs configs,
+        final Duration interval, final Duration idle) {
+        this.repository = repository;
+        this.configs = configs;
+        this.interval = interval;
+        this.users = CacheBuilder.newBuilder().expireAfterAccess(idle)
+            .maximumSize(ConfigSearch.SIZE).build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "config-search");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("config-search-", 0).factory()
+        );
+    }
+
+    /**
+     * Start background refresh.
+     */
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(
+            this::refresh, this.interval.toMillis(), this.interval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Stop background refresh.
+     */
+    public void stop() {
+        this.scheduler.shutdownNow();
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Search repository configurations of the user. The first search of the
+     * user starts building the index and finds only repositories indexed so far.
+     * @param uid User ID
+     * @param token Token of the user
+     * @param query Query
+     * @param limit Max number of repositories
+     * @return Matched fields, path and value, by repository name sorted by name
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Map<String, Map<String, String>> search(final String uid, final String token,
+        final String query, final int limit) {
+        final UserIndex user;
+        try {
+            user = this.users.get(uid, () -> new UserIndex(uid, token));
+        } catch (final UncheckedExecutionException | ExecutionException err) {
+            throw new IllegalStateException(err.getCause());
+        }
+        user.token = token;
+        if (user.started.compareAndSet(false, true)) {
+            this.workers.execute(() -> this.sync(user));
+        }
+        return user.index.search(query, limit);
+    }
+
+    /**
+     * Whether index of the user is built.
+     * @param uid User ID
+     * @return True if repository list of the user was indexed at least once
+     */
+    public boolean ready(final String uid) {
+        return Optional.ofNullable(this.users.getIfPresent(uid))
+            .map(user -> user.ready).orElse(false);
+    }
+
+    @Override
+    public void saved(final String uid, final String name) {
+        final UserIndex user = this.users.getIfPresent(uid);
+        if (user != null) {
+            this.workers.execute(
+                () -> this.config(user, name).ifPresent(config -> this.put(user, name, config))
+            );
+        }
+    }
+
+    @Override
+    public void removed(final String uid, final String name) {
+        final UserIndex user = this.users.getIfPresent(uid);
+        if (user != null) {
+            user.index.remove(name);
+        }
+    }
+
+    /**
+     * Refresh indexes of every user, one virtual thread per user, and wait
+     * for all of them.
+     */
+    void refresh() {
+        final List<Callable<Object>> tasks = new ArrayList<>(0);
+        this.users.asMap().values().forEach(
+            user -> tasks.add(Executors.callable(() -> this.sync(user)))
+        );
+        try {
+            this.workers.invokeAll(tasks);
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Add repositories missing in index of the user, reindex changed
+     * repositories and remove repositories which don't exist anymore.
+     * Syncs of the same user never overlap; the lock doesn't pin carrier
+     * threads of virtual threads, unlike {@code synchronized}.
+     * @param user Index of the user
+     */
+    private void sync(final UserIndex user) {
+        user.lock.lock();
+        try {
+            this.update(user);
+        } finally {
+            user.lock.unlock();
+        }
+    }
+
+    /**
+     * Update index of the user with current repository list and configurations.
+     * @param user Index of the user
+     */
+    private void update(final UserIndex user) {
+        final long start = System.nanoTime();
+        final Set<String> names;
+        try {
+            names = new HashSet<>(this.repository.list(user.token));
+        } catch (final RestException err) {
+            Logger.debug(this, "Failed to list repositories of %s: %s", user.uid, err);
+            return;
+        }
+        final Map<String, Integer> indexed = user.index.versions();
+        indexed.keySet().stream().filter(name -> !names.contains(name))
+            .forEach(user.index::remove);
+        try {
+            new Parallel<RepositoryConfigs.Config>(
+                ConfigSearch.PARALLEL,
+                name -> {
+                    final Optional<RepositoryConfigs.Config> res = this.config(user, name);
+                    res.filter(
+                        config -> !Integer.valueOf(config.version()).equals(indexed.get(name))
+                    ).ifPresent(config -> this.put(user, name, config));
+                    return res;
+                }
+            ).apply(names);
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        user.ready = true;
+        Logger.debug(
+            this, "Synced %d repository configurations of %s in %[nano]s",
+            names.size(), user.uid, System.nanoTime() - start
+        );
+    }
+
+    /**
+     * Repository configuration from shared cache.
+     * @param user Index of the user
+     * @param name Repository name
+     * @return Configuration or empty if it can't be read
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Optional<RepositoryConfigs.Config> config(final UserIndex user, final String name) {
+        Optional<RepositoryConfigs.Config> res;
+        try {
+            res = Optional.of(this.configs.config(user.uid, user.token, name));
+        } catch (final RuntimeException err) {
+            Logger.debug(this, "Failed to index configuration of %s: %s", name, err);
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Index repository configuration.
+     * @param user Index of the user
+     * @param name Repository name
+     * @param config Configuration
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void put(final UserIndex user, final String name,
+        final RepositoryConfigs.Config config) {
+        try {
+            final Map<String, String> fields = new HashMap<>();
+            ConfigSearch.flatten("", new Yaml2Json().apply(config.yaml()), fields);
+            user.index.put(name, config.version(), fields);
+        } catch (final RuntimeException err) {
+            Logger.debug(this, "Failed to parse configuration of %s: %s", name, err);
+        }
+    }
+
+    /**
+     * Flatten json to fields by path.
+     * @param path Path of the value
+     * @param json Json value
+     * @param fields Fields to add to
+     */
+    private static void flatten(final String path, final JsonValue json,
+        final Map<String, String> fields) {
+        if (json instanceof JsonObject) {
+            ((JsonObject) json).forEach(
+                (key, value) -> {
+                    if (path.isEmpty()) {
+                        ConfigSearch.flatten(key, value, fields);
+                    } else {
+                        ConfigSearch.flatten(String.join(".", path, key), value, fields);
+                    }
+                }
+            );
+        } else if (json instanceof JsonArray) {
+            final List<JsonValue> items = (JsonArray) json;
+            for (int idx = 0; idx < items.size(); ++idx) {
+                ConfigSearch.flatten(String.format("%s[%d]", path, idx), items.get(idx), fields);
+            }
+        } else if (json instanceof JsonString) {
+            fields.put(path, ((JsonString) json).getString());
+        } else if (json.getValueType() != JsonValue.ValueType.NULL) {
+            fields.put(path, json.toString());
+        }
+    }
+
+    /**
+     * Index of user.
+     * @since 1.0
+     */
+    private static final class UserIndex {
+        /**
+         * User ID.
+         */
+        private final String uid;
+
+        /**
+         * Index.
+         */
+        private final ConfigIndex index;
+
+        /**
+         * Background build of the index was started.
+         */
+        private final AtomicBoolean started;
+
+        /**
+         * Lock of index sync.
+         */
+        private final Lock lock;
+
+        /**
+         * Token of the latest search.
+         */
+        private volatile String token;
+
+        /**
+         * Repository list was indexed at least once.
+         */
+        private volatile boolean ready;
+
+        /**
+         * Ctor.
+         * @param uid User ID
+         * @param token Token of the user
+         */
+        UserIndex(final String uid, final String token) {
+            this.uid = uid;
+            this.index = new ConfigIndex();
+            this.started = new AtomicBoolean();
+            this.lock = new ReentrantLock();
+            this.token = token;
+        }
+    }
+}
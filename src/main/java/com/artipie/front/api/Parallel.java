@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.trace.Tracing;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Function applied to repositories on virtual threads with limited
+ * concurrency, to read many repositories from Artipie without flooding it.
+ * Calls are traced and timed as calls of the request which applies the function.
+ * @param <T> Result type
+ * @since 1.0
+ */
+final class Parallel<T> {
+    /**
+     * Max concurrent calls.
+     */
+    private final int limit;
+
+    /**
+     * Function of repository name, empty result is skipped.
+     */
+    private final Function<String, Optional<T>> func;
+
+    /**
+     * Ctor.
+     * @param limit Max concurrent calls
+     * @param func Function of repository name, empty result is skipped
+     */
+    Parallel(final int limit, final Function<String, Optional<T>> func) {
+        this.limit = limit;
+        this.func = func;
+    }
+
+    /**
+     * Apply function to repositories and wait for results.
+     * @param names Repository names
+     * @return Present results in order of names
+     * @throws InterruptedException If interrupted
+     */
+    List<T> apply(final Collection<String> names) throws InterruptedException {
+        final Semaphore permits = new Semaphore(this.limit);
+        final List<Future<Optional<T>>> futures = new ArrayList<>(names.size());
+        try (ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final String name : names) {
+                futures.add(
+                    exec.submit(
+                        RequestTiming.propagate(
+                            Tracing.propagate(
+                                () -> {
+                                    permits.acquire();
+                                    try {
+                                        return this.func.apply(name);
+                                    } finally {
+                                        permits.release();
+                                    }
+                                }
+                            )
+                        )
+                    )
+                );
+            }
+        }
+        final List<T> res = new ArrayList<>(names.size());
+        for (final Future<Optional<T>> future : futures) {
+            try {
+                future.get().ifPresent(res::add);
+            } catch (final ExecutionException err) {
+                if (err.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) err.getCause();
+                }
+                throw new IllegalStateException(err.getCause());
+            }
+        }
+        return res;
+    }
+}
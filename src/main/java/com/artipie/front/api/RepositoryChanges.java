@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import java.util.List;
+
+/**
+ * Changes of repositories made by users through the front.
+ * @since 1.0
+ */
+public interface RepositoryChanges {
+    /**
+     * Repository was saved by the user.
+     * @param uid User ID
+     * @param name Repository name
+     */
+    void saved(String uid, String name);
+
+    /**
+     * Repository was removed by the user.
+     * @param uid User ID
+     * @param name Repository name
+     */
+    void removed(String uid, String name);
+
+    /**
+     * Changes passed to all of the receivers.
+     * @since 1.0
+     */
+    final class All implements RepositoryChanges {
+        /**
+         * Receivers of changes.
+         */
+        private final List<RepositoryChanges> receivers;
+
+        /**
+         * Ctor.
+         * @param receivers Receivers of changes
+         */
+        public All(final RepositoryChanges... receivers) {
+            this.receivers = List.of(receivers);
+        }
+
+        @Override
+        public void saved(final String uid, final String name) {
+            this.receivers.forEach(changes -> changes.saved(uid, name));
+        }
+
+        @Override
+        public void removed(final String uid, final String name) {
+            this.receivers.forEach(changes -> changes.removed(uid, name));
+        }
+    }
+}
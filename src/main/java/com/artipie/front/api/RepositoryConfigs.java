@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.rest.RepositoryService;
+import com.artipie.front.rest.SettingsService;
+import com.artipie.front.ui.repository.RepoList;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import javax.json.Json;
+import javax.json.JsonObject;
+
+/**
+ * Repository configurations of users shared by repository list, details,
+ * search and configuration search, cached by user ID and repository name.
+ * Every configuration has version, hash code of its content, and summary
+ * {@code {"name", "type", "port"}} parsed once on load. Concurrent reads of
+ * the same configuration share one Artipie call; failed reads, including
+ * rejected by the limit of Artipie calls, are not cached. Configurations
+ * saved and removed through the front are dropped at once, others are
+ * reloaded after time to live.
+ * @since 1.0
+ */
+public final class RepositoryConfigs implements RepositoryChanges {
+    /**
+     * Max number of cached configurations.
+     */
+    private static final int SIZE = 100_000;
+
+    /**
+     * Repository service.
+     */
+    private final RepositoryService repository;
+
+    /**
+     * Settings service.
+     */
+    private final SettingsService settings;
+
+    /**
+     * Configurations by user ID and repository name.
+     */
+    private final Cache<List<String>, Config> configs;
+
+    /**
+     * Ctor.
+     * @param repository Repository service
+     * @param settings Settings service
+     * @param ttl Time to live of configuration
+     */
+    public RepositoryConfigs(final RepositoryService repository,
+        final SettingsService settings, final Duration ttl) {
+        this.repository = repository;
+        this.settings = settings;
+        this.configs = CacheBuilder.newBuilder().expireAfterWrite(ttl)
+            .maximumSize(RepositoryConfigs.SIZE).build();
+    }
+
+    @Override
+    public void saved(final String uid, final String name) {
+        this.configs.invalidate(List.of(uid, name));
+    }
+
+    @Override
+    public void removed(final String uid, final String name) {
+        this.configs.invalidate(List.of(uid, name));
+    }
+
+    /**
+     * Configuration of repository, read from Artipie if it's not cached.
+     * @param uid User ID
+     * @param token Token of the user
+     * @param name Repository name
+     * @return Configuration
+     */
+    Config config(final String uid, final String token, final String name) {
+        try {
+            return this.configs.get(
+                List.of(uid, name),
+                () -> new Config(name, this.repository.repo(token, name), this.settings.port())
+            );
+        } catch (final UncheckedExecutionException | ExecutionException err) {
+            if (err.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) err.getCause();
+            }
+            throw new IllegalStateException(err.getCause());
+        }
+    }
+
+    /**
+     * Cached configuration of repository.
+     * @param uid User ID
+     * @param name Repository name
+     * @return Configuration or empty if it's not cached
+     */
+    Optional<Config> cached(final String uid, final String name) {
+        return Optional.ofNullable(this.configs.getIfPresent(List.of(uid, name)));
+    }
+
+    /**
+     * Repository configuration.
+     * @since 1.0
+     */
+    static final class Config {
+        /**
+         * Configuration content.
+         */
+        private final String yaml;
+
+        /**
+         * Summary of repository.
+         */
+        private final JsonObject summary;
+
+        /**
+         * Ctor.
+         * @param name Repository name
+         * @param yaml Configuration content
+         * @param port Default Artipie port
+         */
+        Config(final String name, final String yaml, final int port) {
+            this.yaml = yaml;
+            final RepoList.Repo repo = new RepoList.Repo(Integer.toString(port), name, yaml);
+            this.summary = Json.createObjectBuilder()
+                .add("name", repo.name())
+                .add("type", repo.type())
+                .add("port", repo.port())
+                .build();
+        }
+
+        /**
+         * Configuration content.
+         * @return Yaml
+         */
+        String yaml() {
+            return this.yaml;
+        }
+
+        /**
+         * Version of configuration, changes when content changes.
+         * @return Version
+         */
+        int version() {
+            return this.yaml.hashCode();
+        }
+
+        /**
+         * Summary of repository.
+         * @return Json {@code {"name", "type", "port"}}
+         */
+        JsonObject summary() {
+            return this.summary;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.RestException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.MimeTypes;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * Endpoint of repository details in batch. Accepts POST request with json
+ * body {@code {"names": [...]}} of at most 100 repository names and returns
+ * json array {@code [{"name", "type", "port"}]} in the same order;
+ * repository which can't be read gets {@code {"name", "error"}} with HTTP
+ * status of the failure instead, so one failed repository doesn't fail
+ * the batch. Repositories of the batch are taken from {@link RepositoryConfigs},
+ * missing ones are read on virtual threads; body without {@code names} array
+ * of strings gets {@code 400}.
+ *
+ * @since 1.0
+ */
+public final class RepositoryDetailsRest implements Route {
+    /**
+     * Max number of repositories in batch.
+     */
+    static final int MAX_NAMES = 100;
+
+    /**
+     * Repository configurations.
+     */
+    private final RepositoryConfigs configs;
+
+    /**
+     * Ctor.
+     *
+     * @param configs Repository configurations
+     */
+    public RepositoryDetailsRest(final RepositoryConfigs configs) {
+        this.configs = configs;
+    }
+
+    @Override
+    public String handle(final Request req, final Response res) {
+        final List<String> names = RepositoryDetailsRest.names(req.body());
+        if (names.size() > RepositoryDetailsRest.MAX_NAMES) {
+            throw new RestException(
+                HttpStatus.BAD_REQUEST_400,
+                String.format(
+                    "Too many repositories in batch: %d, max %d",
+                    names.size(), RepositoryDetailsRest.MAX_NAMES
+                )
+            );
+        }
+        res.type(MimeTypes.Type.APPLICATION_JSON.asString());
+        return new Summaries(
+            this.configs, req.session().attribute("uid"), req.session().attribute("token")
+        ).all(names).toString();
+    }
+
+    /**
+     * Repository names of request body.
+     * @param body Request body
+     * @return Names
+     * @throws RestException With 400 status if body is not json object with
+     *  {@code names} array of strings
+     */
+    private static List<String> names(final String body) {
+        final JsonValue json;
+        try {
+            json = Json.createReader(new StringReader(Optional.ofNullable(body).orElse("")))
+                .readValue();
+        } catch (final JsonException err) {
+            throw new RestException(HttpStatus.BAD_REQUEST_400, "Request body is not json");
+        }
+        final JsonValue names;
+        if (json instanceof JsonObject) {
+            names = ((JsonObject) json).get("names");
+        } else {
+            names = JsonValue.NULL;
+        }
+        if (!(names instanceof JsonArray)
+            || !((JsonArray) names).stream().allMatch(JsonString.class::isInstance)) {
+            throw new RestException(
+                HttpStatus.BAD_REQUEST_400, "Request body should have \"names\" array of strings"
+            );
+        }
+        return ((JsonArray) names).getValuesAs(JsonString.class).stream()
+            .map(JsonString::getString).toList();
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.RestException;
+import com.artipie.front.rest.RepositoryService;
+import com.artipie.front.trace.SpanExporter;
+import com.artipie.front.trace.Tracing;
+import com.jcabi.log.Logger;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.json.Json;
+
+/**
+ * Repository change events of signed in users.
+ * Events are {@code add}, {@code update} and {@code remove} of repository,
+ * they are published by repository save and remove routes and by background
+ * refresh, which compares repository list of every listening user with the
+ * last known one, so repositories added or removed outside of the front are
+ * reported too. Refresh also sends a comment to keep idle streams open.
+ * Refresh of every user is traced as background task.
+ * Events are formatted as server-sent event frames.
+ * @since 1.0
+ */
+public final class RepositoryEvents implements RepositoryChanges {
+    /**
+     * Keep-alive comment frame.
+     */
+    private static final String PING = ":ping\n\n";
+
+    /**
+     * Repository service.
+     */
+    private final RepositoryService repository;
+
+    /**
+     * Refresh interval.
+     */
+    private final Duration interval;
+
+    /**
+     * Listeners by user ID.
+     */
+    private final Map<String, Listeners> users;
+
+    /**
+     * Trace context.
+     */
+    private final Tracing tracing;
+
+    /**
+     * Refresh scheduler.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Refresh workers, one virtual thread per user.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Ctor.
+     * @param repository Repository service
+     * @param interval Refresh interval
+     */
+    public RepositoryEvents(final RepositoryService repository, final Duration interval) {
+        this(repository, interval, new Tracing(SpanExporter.NONE));
+    }
+
+    /**
+     * Ctor.
+     * @param repository Repository service
+     * @param interval Refresh interval
+     * @param tracing Trace context
+     */
+    public RepositoryEvents(final RepositoryService repository, final Duration interval,
+        final Tracing tracing) {
+        this.repository = repository;
+        this.interval = interval;
+        this.tracing = tracing;
+        this.users = new ConcurrentHashMap<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "repository-events");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("repository-events-", 0).factory()
+        );
+    }
+
+    /**
+     * Start background refresh.
+     */
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(
+            this::refresh, this.interval.toMillis(), this.interval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Stop background refresh.
+     */
+    public void stop() {
+        this.scheduler.shutdownNow();
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Listen to repository events of the user. Listeners of the user which
+     * lost their last sink are replaced with new ones with current repository
+     * list, even if they are not forgotten yet.
+     * @param uid User ID
+     * @param token Token of the user
+     * @param sink Consumer of event frames, throws {@link UncheckedIOException}
+     *  if the stream is closed
+     * @return Action to stop listening
+     */
+    public Runnable subscribe(final String uid, final String token,
+        final Consumer<String> sink) {
+        final List<String> names = this.repository.list(token);
+        final Listeners listeners = this.users.compute(
+            uid,
+            (key, existing) -> {
+                final Listeners res;
+                if (existing == null || existing.sinks.isEmpty()) {
+                    res = new Listeners(token, names);
+                } else {
+                    existing.token = token;
+                    res = existing;
+                }
+                res.sinks.add(sink);
+                return res;
+            }
+        );
+        return () -> this.unsubscribe(uid, listeners, sink);
+    }
+
+    @Override
+    public void saved(final String uid, final String name) {
+        final Listeners listeners = this.users.get(uid);
+        if (listeners != null) {
+            final boolean added;
+            synchronized (listeners) {
+                added = listeners.known.add(name);
+            }
+            if (added) {
+                this.send(uid, listeners, RepositoryEvents.frame("add", name));
+            } else {
+                this.send(uid, listeners, RepositoryEvents.frame("update", name));
+            }
+        }
+    }
+
+    @Override
+    public void removed(final String uid, final String name) {
+        final Listeners listeners = this.users.get(uid);
+        if (listeners != null) {
+            final boolean removed;
+            synchronized (listeners) {
+                removed = listeners.known.remove(name);
+            }
+            if (removed) {
+                this.send(uid, listeners, RepositoryEvents.frame("remove", name));
+            }
+        }
+    }
+
+    /**
+     * Refresh repositories of every listening user, one virtual thread per
+     * user, and wait for all of them, so refreshes of the same user never
+     * overlap when Artipie is slow.
+     */
+    void refresh() {
+        final List<Callable<Object>> tasks = new ArrayList<>(this.users.size());
+        this.users.forEach(
+            (uid, listeners) -> tasks.add(
+                Executors.callable(
+                    this.tracing.background(
+                        "repository_events_refresh", () -> this.refresh(uid, listeners)
+                    )
+                )
+            )
+        );
+        try {
+            this.workers.invokeAll(tasks);
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Compare repository list of the user with the last known one and
+     * send events of the difference.
+     * @param uid User ID
+     * @param listeners Listeners of the user
+     */
+    private void refresh(final String uid, final Listeners listeners) {
+        try {
+            final Set<String> current = new HashSet<>(this.repository.list(listeners.token));
+            final Set<String> added;
+            final Set<String> removed;
+            synchronized (listeners) {
+                added = new HashSet<>(current);
+                added.removeAll(listeners.known);
+                removed = new HashSet<>(listeners.known);
+                removed.removeAll(current);
+                listeners.known.clear();
+                listeners.known.addAll(current);
+            }
+            added.forEach(name -> this.send(uid, listeners, RepositoryEvents.frame("add", name)));
+            removed.forEach(
+                name -> this.send(uid, listeners, RepositoryEvents.frame("remove", name))
+            );
+        } catch (final RestException err) {
+            Logger.debug(this, "Failed to refresh repositories of %s: %s", uid, err);
+        }
+        this.send(uid, listeners, RepositoryEvents.PING);
+    }
+
+    /**
+     * Send frame to every listener of the user, listeners with closed
+     * streams are removed.
+     * @param uid User ID
+     * @param listeners Listeners of the user
+     * @param frame Event frame
+     */
+    private void send(final String uid, final Listeners listeners, final String frame) {
+        for (final Consumer<String> sink : listeners.sinks) {
+            try {
+                sink.accept(frame);
+            } catch (final UncheckedIOException err) {
+                this.unsubscribe(uid, listeners, sink);
+            }
+        }
+    }
+
+    /**
+     * Stop listening, user without listeners is forgotten.
+     * @param uid User ID
+     * @param listeners Listeners of the user
+     * @param sink Consumer of event frames
+     */
+    private void unsubscribe(final String uid, final Listeners listeners,
+        final Consumer<String> sink) {
+        this.users.computeIfPresent(
+            uid,
+            (key, existing) -> {
+                listeners.sinks.remove(sink);
+                Listeners res = existing;
+                if (existing == listeners && listeners.sinks.isEmpty()) {
+                    res = null;
+                }
+                return res;
+            }
+        );
+    }
+
+    /**
+     * Server-sent event frame.
+     * @param kind Event kind
+     * @param name Repository name
+     * @return Frame
+     */
+    private static String frame(final String kind, final String name) {
+        return String.format(
+            "event: %s\ndata: %s\n\n",
+            kind, Json.createObjectBuilder().add("name", name).build()
+        );
+    }
+
+    /**
+     * Listeners of one user.
+     * @since 1.0
+     */
+    private static final class Listeners {
+        /**
+         * Consumers of event frames.
+         */
+        private final List<Consumer<String>> sinks;
+
+        /**
+         * Last known repositories.
+         */
+        private final Set<String> known;
+
+        /**
+         * Token of the latest subscribed session.
+         */
+        private volatile String token;
+
+        /**
+         * Ctor.
+         * @param token Token of the user
+         * @param known Known repositories
+         */
+        Listeners(final String token, final List<String> known) {
+            this.token = token;
+            this.known = new HashSet<>(known);
+            this.sinks = new CopyOnWriteArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * Endpoint of repository change events as
+ * <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">server-sent
+ * events</a> stream of {@link RepositoryEvents} of signed in user.
+ * The stream is served asynchronously, so open streams don't hold server
+ * threads; it's closed after max duration and browser reconnects to it.
+ *
+ * @since 1.0
+ */
+public final class RepositoryEventsRest implements Route {
+    /**
+     * Browser reconnection delay in milliseconds.
+     */
+    private static final String RETRY = "retry: 3000\n\n";
+
+    /**
+     * Repository events.
+     */
+    private final RepositoryEvents events;
+
+    /**
+     * Max duration of the stream.
+     */
+    private final Duration duration;
+
+    /**
+     * Ctor.
+     *
+     * @param events Repository events
+     * @param duration Max duration of the stream
+     */
+    public RepositoryEventsRest(final RepositoryEvents events, final Duration duration) {
+        this.events = events;
+        this.duration = duration;
+    }
+
+    @Override
+    public String handle(final Request req, final Response res) throws IOException {
+        final HttpServletResponse raw = res.raw();
+        raw.setContentType("text/event-stream;charset=utf-8");
+        raw.setHeader(HttpHeader.CACHE_CONTROL.asString(), "no-cache");
+        raw.setHeader("X-Accel-Buffering", "no");
+        final AsyncContext async = req.raw().startAsync();
+        async.setTimeout(this.duration.toMillis());
+        final ServletOutputStream out = raw.getOutputStream();
+        RepositoryEventsRest.write(out, RepositoryEventsRest.RETRY);
+        final Runnable unsubscribe = this.events.subscribe(
+            req.session().attribute("uid"), req.session().attribute("token"),
+            frame -> RepositoryEventsRest.write(out, frame)
+        );
+        async.addListener(new Close(unsubscribe));
+        return "";
+    }
+
+    /**
+     * Write frame to the stream and flush it.
+     * @param out Output stream
+     * @param frame Event frame
+     * @throws UncheckedIOException If stream is closed
+     */
+    private static void write(final ServletOutputStream out, final String frame) {
+        synchronized (out) {
+            try {
+                out.write(frame.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (final IOException err) {
+                throw new UncheckedIOException(err);
+            }
+        }
+    }
+
+    /**
+     * Stops listening to events when the stream is done.
+     * @since 1.0
+     */
+    private static final class Close implements AsyncListener {
+        /**
+         * Action to stop listening.
+         */
+        private final Runnable unsubscribe;
+
+        /**
+         * Ctor.
+         * @param unsubscribe Action to stop listening
+         */
+        Close(final Runnable unsubscribe) {
+            this.unsubscribe = unsubscribe;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            this.unsubscribe.run();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            this.unsubscribe.run();
+            event.getAsyncContext().complete();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            this.unsubscribe.run();
+            event.getAsyncContext().complete();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // the stream is started once
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory search index of repository summaries.
+ * Names are indexed by every substring of one to three characters, so a
+ * query of up to three characters is one lookup and longer query is an
+ * intersection of its trigram postings checked against the name. Results
+ * are filtered by type and port and counted by type and port facets.
+ * The index is immutable, it's rebuilt when summaries change.
+ * @since 1.0
+ */
+final class RepositoryIndex {
+    /**
+     * Max length of indexed substrings.
+     */
+    private static final int GRAM = 3;
+
+    /**
+     * Repositories sorted by name.
+     */
+    private final List<Entry> repos;
+
+    /**
+     * Sorted positions of repositories by substring of lower case name.
+     */
+    private final Map<String, int[]> grams;
+
+    /**
+     * Ctor.
+     * @param summaries Repository summaries
+     */
+    RepositoryIndex(final Collection<Entry> summaries) {
+        this.repos = summaries.stream().sorted(Comparator.comparing(Entry::name)).toList();
+        final Map<String, List<Integer>> postings = new HashMap<>();
+        for (int pos = 0; pos < this.repos.size(); ++pos) {
+            final String name = this.repos.get(pos).name().toLowerCase(Locale.ROOT);
+            for (int len = 1; len <= RepositoryIndex.GRAM; ++len) {
+                for (int start = 0; start + len <= name.length(); ++start) {
+                    final List<Integer> list = postings.computeIfAbsent(
+                        name.substring(start, start + len), key -> new ArrayList<>(1)
+                    );
+                    if (list.isEmpty() || list.get(list.size() - 1) != pos) {
+                        list.add(pos);
+                    }
+                }
+            }
+        }
+        this.grams = new HashMap<>(postings.size());
+        postings.forEach(
+            (gram, list) -> this.grams.put(
+                gram, list.stream().mapToInt(Integer::intValue).toArray()
+            )
+        );
+    }
+
+    /**
+     * Number of indexed repositories.
+     * @return Size
+     */
+    int size() {
+        return this.repos.size();
+    }
+
+    /**
+     * Search repositories.
+     * @param query Case-insensitive substring of name, empty to match all
+     * @param type Repository type or empty for any type
+     * @param port Repository port or empty for any port
+     * @param limit Max number of returned repositories
+     * @return Search result
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Result search(final String query, final String type, final String port, final int limit) {
+        final String needle = query.trim().toLowerCase(Locale.ROOT);
+        final Result res = new Result();
+        for (final int pos : this.candidates(needle)) {
+            final Entry repo = this.repos.get(pos);
+            if (needle.length() <= RepositoryIndex.GRAM
+                || repo.name().toLowerCase(Locale.ROOT).contains(needle)) {
+                res.add(repo, type, port, limit);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Positions of repositories which may match the query.
+     * @param needle Lower case query
+     * @return Sorted positions
+     */
+    private int[] candidates(final String needle) {
+        int[] res;
+        if (needle.isEmpty()) {
+            res = IntStream.range(0, this.repos.size()).toArray();
+        } else if (needle.length() <= RepositoryIndex.GRAM) {
+            res = this.grams.getOrDefault(needle, new int[0]);
+        } else {
+            res = null;
+            for (int start = 0; start + RepositoryIndex.GRAM <= needle.length(); ++start) {
+                final int[] postings = this.grams.getOrDefault(
+                    needle.substring(start, start + RepositoryIndex.GRAM), new int[0]
+                );
+                if (res == null) {
+                    res = postings;
+                } else {
+                    res = RepositoryIndex.intersect(res, postings);
+                }
+                if (res.length == 0) {
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Intersection of sorted positions.
+     * @param first First positions
+     * @param second Second positions
+     * @return Sorted positions in both
+     */
+    private static int[] intersect(final int[] first, final int[] second) {
+        final int[] res = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        int left = 0;
+        int right = 0;
+        while (left < first.length && right < second.length) {
+            if (first[left] < second[right]) {
+                ++left;
+            } else if (first[left] > second[right]) {
+                ++right;
+            } else {
+                res[size] = first[left];
+                ++size;
+                ++left;
+                ++right;
+            }
+        }
+        return Arrays.copyOf(res, size);
+    }
+
+    /**
+     * Indexed repository summary.
+     * @since 1.0
+     */
+    static final class Entry {
+        /**
+         * Repository name.
+         */
+        private final String name;
+
+        /**
+         * Repository type.
+         */
+        private final String type;
+
+        /**
+         * Repository port.
+         */
+        private final String port;
+
+        /**
+         * Ctor.
+         * @param name Repository name
+         * @param type Repository type
+         * @param port Repository port
+         */
+        Entry(final String name, final String type, final String port) {
+            this.name = name;
+            this.type = type;
+            this.port = port;
+        }
+
+        /**
+         * Repository name.
+         * @return Name
+         */
+        String name() {
+            return this.name;
+        }
+
+        /**
+         * Repository type.
+         * @return Type
+         */
+        String type() {
+            return this.type;
+        }
+
+        /**
+         * Repository port.
+         * @return Port
+         */
+        String port() {
+            return this.port;
+        }
+    }
+
+    /**
+     * Search result.
+     * @since 1.0
+     */
+    static final class Result {
+        /**
+         * Found repositories up to the limit.
+         */
+        private final List<Entry> repos;
+
+        /**
+         * Number of repositories by type among name matches.
+         */
+        private final Map<String, Integer> types;
+
+        /**
+         * Number of repositories by port among name matches.
+         */
+        private final Map<String, Integer> ports;
+
+        /**
+         * Total number of found repositories.
+         */
+        private int total;
+
+        /**
+         * Ctor.
+         */
+        Result() {
+            this.repos = new ArrayList<>(0);
+            this.types = new TreeMap<>();
+            this.ports = new TreeMap<>();
+        }
+
+        /**
+         * Count repository matching the name query in facets and add it to
+         * found repositories if it matches type and port.
+         * @param repo Repository
+         * @param type Repository type or empty for any type
+         * @param port Repository port or empty for any port
+         * @param limit Max number of found repositories
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        void add(final Entry repo, final String type, final String port, final int limit) {
+            this.types.merge(repo.type(), 1, Integer::sum);
+            this.ports.merge(repo.port(), 1, Integer::sum);
+            if ((type.isEmpty() || type.equals(repo.type()))
+                && (port.isEmpty() || port.equals(repo.port()))) {
+                this.total += 1;
+                if (this.repos.size() < limit) {
+                    this.repos.add(repo);
+                }
+            }
+        }
+
+        /**
+         * Found repositories up to the limit.
+         * @return Repositories sorted by name
+         */
+        List<Entry> repos() {
+            return this.repos;
+        }
+
+        /**
+         * Total number of found repositories.
+         * @return Total
+         */
+        int total() {
+            return this.total;
+        }
+
+        /**
+         * Number of repositories by type among name matches.
+         * @return Counts by type
+         */
+        Map<String, Integer> types() {
+            return this.types;
+        }
+
+        /**
+         * Number of repositories by port among name matches.
+         * @return Counts by port
+         */
+        Map<String, Integer> ports() {
+            return this.ports;
+        }
+    }
+}
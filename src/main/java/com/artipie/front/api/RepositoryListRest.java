@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.rest.RepositoryService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.MimeTypes;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * Endpoint of repository summaries. Accepts GET request and returns json
+ * array of repositories sorted by name: {@code [{"name", "type", "port"}]},
+ * repository which can't be read gets {@code {"name", "error"}} instead.
+ * Summaries are taken from {@link RepositoryConfigs} shared with other
+ * repository endpoints, so only repository list and configurations which
+ * are not cached are read from Artipie. Response has strong {@code ETag}
+ * of repository names and versions of their configurations, request with
+ * matching {@code If-None-Match} gets {@code 304} before the body is built.
+ *
+ * @since 1.0
+ */
+public final class RepositoryListRest implements Route {
+    /**
+     * Number of digest bytes in ETag.
+     */
+    private static final int TAG_BYTES = 16;
+
+    /**
+     * Repository service.
+     */
+    private final RepositoryService repository;
+
+    /**
+     * Repository configurations.
+     */
+    private final RepositoryConfigs configs;
+
+    /**
+     * Ctor.
+     *
+     * @param repository Repository service
+     * @param configs Repository configurations
+     */
+    public RepositoryListRest(final RepositoryService repository,
+        final RepositoryConfigs configs) {
+        this.repository = repository;
+        this.configs = configs;
+    }
+
+    @Override
+    public String handle(final Request req, final Response res) {
+        final String token = req.session().attribute("token");
+        final List<Summaries.Item> items = new Summaries(
+            this.configs, req.session().attribute("uid"), token
+        ).items(this.repository.list(token).stream().sorted().toList());
+        final String etag = RepositoryListRest.etag(items);
+        res.header(HttpHeader.ETAG.asString(), etag);
+        res.header(HttpHeader.CACHE_CONTROL.asString(), "private, no-cache");
+        final String result;
+        if (etag.equals(req.headers(HttpHeader.IF_NONE_MATCH.asString()))) {
+            res.status(HttpStatus.NOT_MODIFIED_304);
+            result = "";
+        } else {
+            final JsonArrayBuilder json = Json.createArrayBuilder();
+            items.forEach(item -> json.add(item.json()));
+            res.type(MimeTypes.Type.APPLICATION_JSON.asString());
+            result = json.build().toString();
+        }
+        return result;
+    }
+
+    /**
+     * Strong entity tag of summaries: digest of names and versions.
+     * @param items Summaries
+     * @return Quoted entity tag
+     */
+    private static String etag(final List<Summaries.Item> items) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final Summaries.Item item : items) {
+                digest.update(
+                    String.format("%s:%s\n", item.json().getString("name"), item.version())
+                        .getBytes(StandardCharsets.UTF_8)
+                );
+            }
+            return String.format(
+                "\"%s\"",
+                HexFormat.of().formatHex(
+                    Arrays.copyOf(digest.digest(), RepositoryListRest.TAG_BYTES)
+                )
+            );
+        } catch (final NoSuchAlgorithmException err) {
+            throw new IllegalStateException(err);
+        }
+    }
+}
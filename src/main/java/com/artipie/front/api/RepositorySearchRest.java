@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.rest.RepositoryService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import org.eclipse.jetty.http.MimeTypes;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * Endpoint of repository search. Accepts GET request with query parameters
+ * {@code q} (substring of name), {@code type}, {@code port} and {@code limit}
+ * (20 by default, 100 max) and returns json
+ * {@code {"total", "repos": [{"name", "type", "port"}], "facets"}}, where
+ * facets {@code {"type": {}, "port": {}}} count repositories matching the
+ * name by type and port.
+ * Searches run against per-user {@link RepositoryIndex} of repository
+ * summaries taken from shared {@link RepositoryConfigs}, the index is built
+ * on the first search and rebuilt after time to live.
+ *
+ * @since 1.0
+ */
+public final class RepositorySearchRest implements Route {
+    /**
+     * Default number of returned repositories.
+     */
+    private static final int LIMIT = 20;
+
+    /**
+     * Max number of returned repositories.
+     */
+    private static final int MAX_LIMIT = 100;
+
+    /**
+     * Max number of cached indexes.
+     */
+    private static final int SIZE = 1000;
+
+    /**
+     * Repository service.
+     */
+    private final RepositoryService repository;
+
+    /**
+     * Repository configurations.
+     */
+    private final RepositoryConfigs configs;
+
+    /**
+     * Indexes by user ID.
+     */
+    private final Cache<String, RepositoryIndex> indexes;
+
+    /**
+     * Ctor.
+     *
+     * @param repository Repository service
+     * @param configs Repository configurations
+     * @param ttl Time to live of index
+     */
+    public RepositorySearchRest(final RepositoryService repository,
+        final RepositoryConfigs configs, final Duration ttl) {
+        this.repository = repository;
+        this.configs = configs;
+        this.indexes = CacheBuilder.newBuilder().expireAfterWrite(ttl)
+            .maximumSize(RepositorySearchRest.SIZE).build();
+    }
+
+    @Override
+    public String handle(final Request req, final Response res) {
+        final RepositoryIndex.Result found = this.index(
+            req.session().attribute("uid"), req.session().attribute("token")
+        ).search(
+            RepositorySearchRest.param(req, "q"),
+            RepositorySearchRest.param(req, "type"),
+            RepositorySearchRest.param(req, "port"),
+            Math.max(
+                0,
+                Math.min(
+                    RepositorySearchRest.MAX_LIMIT,
+                    Optional.ofNullable(req.queryParams("limit"))
+                        .filter(limit -> limit.matches("\\d{1,9}"))
+                        .map(Integer::parseInt).orElse(RepositorySearchRest.LIMIT)
+                )
+            )
+        );
+        final JsonArrayBuilder repos = Json.createArrayBuilder();
+        found.repos().forEach(
+            repo -> repos.add(
+                Json.createObjectBuilder()
+                    .add("name", repo.name())
+                    .add("type", repo.type())
+                    .add("port", repo.port())
+            )
+        );
+        final JsonObjectBuilder types = Json.createObjectBuilder();
+        found.types().forEach((type, count) -> types.add(type, count.intValue()));
+        final JsonObjectBuilder ports = Json.createObjectBuilder();
+        found.ports().forEach((port, count) -> ports.add(port, count.intValue()));
+        res.type(MimeTypes.Type.APPLICATION_JSON.asString());
+        return Json.createObjectBuilder()
+            .add("total", found.total())
+            .add("repos", repos)
+            .add("facets", Json.createObjectBuilder().add("type", types).add("port", ports))
+            .build().toString();
+    }
+
+    /**
+     * Index of the user, concurrent searches share one build.
+     * @param uid User ID
+     * @param token Token of the user
+     * @return Index
+     */
+    private RepositoryIndex index(final String uid, final String token) {
+        try {
+            return this.indexes.get(uid, () -> this.build(uid, token));
+        } catch (final UncheckedExecutionException | ExecutionException err) {
+            if (err.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) err.getCause();
+            }
+            throw new IllegalStateException(err.getCause());
+        }
+    }
+
+    /**
+     * Build index of repository summaries of the user from repository
+     * configurations; repositories which can't be read are not indexed.
+     * @param uid User ID
+     * @param token Token of the user
+     * @return Index
+     */
+    private RepositoryIndex build(final String uid, final String token) {
+        final long start = System.nanoTime();
+        final RepositoryIndex index = new RepositoryIndex(
+            new Summaries(this.configs, uid, token).items(this.repository.list(token)).stream()
+                .map(Summaries.Item::json)
+                .filter(json -> !json.containsKey("error"))
+                .map(
+                    json -> new RepositoryIndex.Entry(
+                        json.getString("name"), json.getString("type"), json.getString("port")
+                    )
+                ).toList()
+        );
+        Logger.debug(
+            this, "Indexed %d repositories in %[nano]s", index.size(), System.nanoTime() - start
+        );
+        return index;
+    }
+
+    /**
+     * Query parameter.
+     * @param req Request
+     * @param name Parameter name
+     * @return Value or empty string if absent
+     */
+    private static String param(final Request req, final String name) {
+        return Optional.ofNullable(req.queryParams(name)).orElse("");
+    }
+}
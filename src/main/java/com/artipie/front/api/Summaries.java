@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.RestException;
+import com.jcabi.log.Logger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Repository summaries of the user as json: {@code {"name", "type", "port"}},
+ * read from {@link RepositoryConfigs}.
+ * @since 1.0
+ */
+final class Summaries {
+    /**
+     * Max concurrent Artipie calls reading summaries of one request.
+     */
+    private static final int PARALLEL = 8;
+
+    /**
+     * Repository configurations.
+     */
+    private final RepositoryConfigs configs;
+
+    /**
+     * User ID.
+     */
+    private final String uid;
+
+    /**
+     * Token of the user.
+     */
+    private final String token;
+
+    /**
+     * Ctor.
+     * @param configs Repository configurations
+     * @param uid User ID
+     * @param token Token of the user
+     */
+    Summaries(final RepositoryConfigs configs, final String uid, final String token) {
+        this.configs = configs;
+        this.uid = uid;
+        this.token = token;
+    }
+
+    /**
+     * Summary of repository.
+     * @param name Repository name
+     * @return Json summary
+     */
+    JsonObject summary(final String name) {
+        return this.configs.config(this.uid, this.token, name).summary();
+    }
+
+    /**
+     * Summaries of repositories, repository which can't be read gets
+     * {@code {"name", "error"}} with HTTP status of the failure instead,
+     * so one failed repository doesn't fail the others.
+     * @param names Repository names
+     * @return Json summaries in order of names
+     */
+    JsonArray all(final Collection<String> names) {
+        final JsonArrayBuilder res = Json.createArrayBuilder();
+        this.items(names).forEach(item -> res.add(item.json()));
+        return res.build();
+    }
+
+    /**
+     * Summaries of repositories with versions. Cached summaries are taken
+     * at once, others are read on virtual threads.
+     * @param names Repository names
+     * @return Summaries in order of names
+     */
+    List<Item> items(final Collection<String> names) {
+        final Map<String, Item> cached = new HashMap<>();
+        final List<String> missed = new ArrayList<>(0);
+        for (final String name : names) {
+            final Optional<RepositoryConfigs.Config> config = this.configs.cached(this.uid, name);
+            if (config.isPresent()) {
+                cached.put(name, Summaries.item(config.get()));
+            } else {
+                missed.add(name);
+            }
+        }
+        try {
+            new Parallel<Item>(Summaries.PARALLEL, name -> Optional.of(this.item(name)))
+                .apply(missed).forEach(item -> cached.put(item.json().getString("name"), item));
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(err);
+        }
+        final List<Item> res = new ArrayList<>(names.size());
+        for (final String name : names) {
+            res.add(cached.get(name));
+        }
+        return res;
+    }
+
+    /**
+     * Summary of repository or error if it can't be read.
+     * @param name Repository name
+     * @return Summary or error
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Item item(final String name) {
+        Item res;
+        try {
+            res = Summaries.item(this.configs.config(this.uid, this.token, name));
+        } catch (final RestException err) {
+            res = Summaries.error(name, err.statusCode());
+        } catch (final RuntimeException err) {
+            Logger.debug(this, "Failed to read summary of %s: %s", name, err);
+            res = Summaries.error(name, HttpStatus.BAD_GATEWAY_502);
+        }
+        return res;
+    }
+
+    /**
+     * Summary of repository configuration.
+     * @param config Configuration
+     * @return Summary
+     */
+    private static Item item(final RepositoryConfigs.Config config) {
+        return new Item(config.summary(), Integer.toHexString(config.version()));
+    }
+
+    /**
+     * Error entry of repository.
+     * @param name Repository name
+     * @param status HTTP status of the failure
+     * @return Json error
+     */
+    private static Item error(final String name, final int status) {
+        return new Item(
+            Json.createObjectBuilder().add("name", name).add("error", status).build(),
+            String.format("error-%d", status)
+        );
+    }
+
+    /**
+     * Summary with version.
+     * @since 1.0
+     */
+    static final class Item {
+        /**
+         * Json summary or error.
+         */
+        private final JsonObject json;
+
+        /**
+         * Version of summary.
+         */
+        private final String version;
+
+        /**
+         * Ctor.
+         * @param json Json summary or error
+         * @param version Version of summary
+         */
+        Item(final JsonObject json, final String version) {
+            this.json = json;
+            this.version = version;
+        }
+
+        /**
+         * Json summary or error.
+         * @return Json
+         */
+        JsonObject json() {
+            return this.json;
+        }
+
+        /**
+         * Version of summary, it changes when summary changes.
+         * @return Version
+         */
+        String version() {
+            return this.version;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import com.artipie.front.RequestAttr;
+import com.artipie.front.misc.Utf8;
+import com.jcabi.log.Logger;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import spark.Filter;
+
+/**
+ * Asynchronous access log.
+ * Request threads only put access records into bounded ring buffer,
+ * records are formatted as JSON lines and written to
+ * {@code com.artipie.front.access} log by background thread; if the
+ * buffer is full, records are dropped and counted.
+ * @since 1.0
+ */
+public final class AccessLog {
+    /**
+     * Name of access log.
+     */
+    public static final String LOG = "com.artipie.front.access";
+
+    /**
+     * Idle time of writer thread when buffer is empty.
+     */
+    private static final long IDLE = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Access records.
+     */
+    private final RingBuffer<Entry> buffer;
+
+    /**
+     * Dropped records.
+     */
+    private final LongAdder dropped;
+
+    /**
+     * Writer thread.
+     */
+    private final Thread writer;
+
+    /**
+     * Writer is running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Ctor.
+     * @param capacity Buffer capacity
+     */
+    public AccessLog(final int capacity) {
+        this.buffer = new RingBuffer<>(capacity);
+        this.dropped = new LongAdder();
+        this.writer = new Thread(this::write, "access-log");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Start writer thread.
+     */
+    public void start() {
+        this.running = true;
+        this.writer.start();
+    }
+
+    /**
+     * Write remaining records and stop writer thread.
+     * @throws InterruptedException If interrupted while waiting for writer
+     */
+    public void stop() throws InterruptedException {
+        this.running = false;
+        LockSupport.unpark(this.writer);
+        this.writer.join();
+    }
+
+    /**
+     * Number of dropped records.
+     * @return Dropped records
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Filter to log request, should be registered as after-after filter.
+     * @return After-after filter
+     */
+    public Filter log() {
+        return (req, rsp) -> {
+            final Object body;
+            if (rsp.body() == null) {
+                body = RouteMetrics.result(req);
+            } else {
+                body = rsp.body();
+            }
+            final Entry entry = new Entry(
+                req.requestMethod(), RouteMetrics.route(req), rsp.status(),
+                Optional.ofNullable(RouteMetrics.started(req))
+                    .map(start -> System.nanoTime() - start).orElse(0L),
+                AccessLog.bytes(body), RequestAttr.Standard.USER_ID.read(req).orElse(null),
+                RequestAttr.Standard.TRACE_PARENT.read(req).orElse(null)
+            );
+            if (!this.buffer.offer(entry)) {
+                this.dropped.increment();
+            }
+        };
+    }
+
+    /**
+     * Response size, it's measured by request thread, so the buffer
+     * doesn't keep response bodies.
+     * @param body Response body, text or bytes
+     * @return Size in bytes, zero if unknown
+     */
+    private static long bytes(final Object body) {
+        final long res;
+        if (body instanceof byte[]) {
+            res = ((byte[]) body).length;
+        } else if (body instanceof CharSequence) {
+            res = Utf8.length((CharSequence) body);
+        } else {
+            res = 0;
+        }
+        return res;
+    }
+
+    /**
+     * Write records until stopped.
+     */
+    private void write() {
+        while (true) {
+            final Entry entry = this.buffer.poll();
+            if (entry != null) {
+                Logger.info(AccessLog.LOG, "%s", entry.json());
+            } else if (this.running) {
+                LockSupport.parkNanos(this, AccessLog.IDLE);
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Access record.
+     * @since 1.0
+     */
+    private static final class Entry {
+        /**
+         * Request time.
+         */
+        private final Instant time;
+
+        /**
+         * HTTP method.
+         */
+        private final String method;
+
+        /**
+         * Route pattern.
+         */
+        private final String route;
+
+        /**
+         * Response status.
+         */
+        private final int status;
+
+        /**
+         * Latency in nanoseconds.
+         */
+        private final long latency;
+
+        /**
+         * Response size in bytes.
+         */
+        private final long bytes;
+
+        /**
+         * User ID.
+         */
+        private final String uid;
+
+        /**
+         * Trace parent.
+         */
+        private final String trace;
+
+        /**
+         * Ctor.
+         * @param method HTTP method
+         * @param route Route pattern
+         * @param status Response status
+         * @param latency Latency in nanoseconds
+         * @param bytes Response size in bytes
+         * @param uid User ID
+         * @param trace Trace parent
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Entry(final String method, final String route, final int status,
+            final long latency, final long bytes, final String uid, final String trace) {
+            this.time = Instant.now();
+            this.method = method;
+            this.route = route;
+            this.status = status;
+            this.latency = latency;
+            this.bytes = bytes;
+            this.uid = uid;
+            this.trace = trace;
+        }
+
+        /**
+         * Format record as JSON.
+         * @return JSON line
+         */
+        String json() {
+            final JsonObjectBuilder json = Json.createObjectBuilder()
+                .add("time", this.time.toString())
+                .add("method", this.method)
+                .add("route", this.route)
+                .add("status", this.status)
+                .add("latency_ms", (double) this.latency / TimeUnit.MILLISECONDS.toNanos(1))
+                .add("bytes", this.bytes);
+            if (this.uid != null) {
+                json.add("uid", this.uid);
+            }
+            if (this.trace != null) {
+                json.add("traceparent", this.trace);
+            }
+            return json.build().toString();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with HDR-style log-linear buckets.
+ * Each power of two of nanoseconds is split into four linear sub-buckets,
+ * so bucket bounds have relative precision of 25%, from about 80
+ * microseconds to about two minutes. Recording is lock-free.
+ * @since 1.0
+ */
+public final class Histogram implements Metrics.Metric {
+    /**
+     * Bits of sub-bucket in value.
+     */
+    private static final int SUB_BITS = 2;
+
+    /**
+     * Sub-buckets per power of two.
+     */
+    private static final int SUBS = 1 << Histogram.SUB_BITS;
+
+    /**
+     * Highest bit of the lowest bucket, 2^16 ns is about 65 microseconds.
+     */
+    private static final int MIN_BIT = 16;
+
+    /**
+     * Highest bit of the highest bucket, 2^36 ns is about 68 seconds.
+     */
+    private static final int MAX_BIT = 36;
+
+    /**
+     * Number of buckets.
+     */
+    private static final int SIZE = (Histogram.MAX_BIT - Histogram.MIN_BIT + 1) * Histogram.SUBS;
+
+    /**
+     * Nanoseconds in second.
+     */
+    private static final double NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Bucket counts, the last one is overflow.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * Sum of recorded values in nanoseconds.
+     */
+    private final LongAdder sum;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this.counts = new AtomicLongArray(Histogram.SIZE + 1);
+        this.sum = new LongAdder();
+    }
+
+    /**
+     * Record value.
+     * @param nanos Value in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        this.counts.incrementAndGet(Histogram.index(value));
+        this.sum.add(value);
+    }
+
+    /**
+     * Number of recorded values.
+     * @return Count
+     */
+    public long count() {
+        long total = 0;
+        for (int idx = 0; idx < this.counts.length(); ++idx) {
+            total += this.counts.get(idx);
+        }
+        return total;
+    }
+
+    /**
+     * Approximate value at quantile, upper bound of the bucket.
+     * @param quantile Quantile from 0 to 1
+     * @return Value in nanoseconds or {@link Long#MAX_VALUE} if it's overflowed
+     */
+    public long quantile(final double quantile) {
+        final long total = this.count();
+        final long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        long res = 0;
+        for (int idx = 0; idx < this.counts.length(); ++idx) {
+            seen += this.counts.get(idx);
+            if (seen >= rank && seen > 0) {
+                res = Histogram.bound(idx);
+                break;
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public void write(final StringBuilder out, final String name, final String labels) {
+        long cumulative = 0;
+        for (int idx = 0; idx < Histogram.SIZE; ++idx) {
+            cumulative += this.counts.get(idx);
+            out.append(name).append("_bucket{").append(labels);
+            if (!labels.isEmpty()) {
+                out.append(',');
+            }
+            out.append(
+                String.format(
+                    Locale.US, "le=\"%.6f\"} %d\n", Histogram.bound(idx) / Histogram.NANOS,
+                    cumulative
+                )
+            );
+        }
+        cumulative += this.counts.get(Histogram.SIZE);
+        out.append(name).append("_bucket{").append(labels);
+        if (!labels.isEmpty()) {
+            out.append(',');
+        }
+        out.append("le=\"+Inf\"} ").append(cumulative).append('\n');
+        Metrics.sample(out, String.format("%s_sum", name), labels)
+            .append(String.format(Locale.US, "%.6f", this.sum.sum() / Histogram.NANOS))
+            .append('\n');
+        Metrics.sample(out, String.format("%s_count", name), labels)
+            .append(cumulative).append('\n');
+    }
+
+    /**
+     * Bucket index of value.
+     * @param nanos Value in nanoseconds
+     * @return Index
+     */
+    private static int index(final long nanos) {
+        final int bit = 63 - Long.numberOfLeadingZeros(nanos);
+        final int idx;
+        if (bit < Histogram.MIN_BIT) {
+            idx = 0;
+        } else if (bit > Histogram.MAX_BIT) {
+            idx = Histogram.SIZE;
+        } else {
+            final int sub = (int) (nanos >>> (bit - Histogram.SUB_BITS)) & (Histogram.SUBS - 1);
+            idx = (bit - Histogram.MIN_BIT) * Histogram.SUBS + sub;
+        }
+        return idx;
+    }
+
+    /**
+     * Upper bound of the bucket.
+     * @param idx Bucket index
+     * @return Bound in nanoseconds
+     */
+    private static long bound(final int idx) {
+        final long res;
+        if (idx >= Histogram.SIZE) {
+            res = Long.MAX_VALUE;
+        } else {
+            final int bit = idx / Histogram.SUBS + Histogram.MIN_BIT;
+            final int sub = idx % Histogram.SUBS;
+            res = (long) (Histogram.SUBS + sub + 1) << (bit - Histogram.SUB_BITS);
+        }
+        return res;
+    }
+}
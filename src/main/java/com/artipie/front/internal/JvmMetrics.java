@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM memory, garbage collection and threads metrics.
+ * @since 1.0
+ */
+public final class JvmMetrics {
+    /**
+     * Metrics registry.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     * @param metrics Metrics registry
+     */
+    public JvmMetrics(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Register JVM metrics.
+     */
+    public void register() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        this.metrics.gauge(
+            "jvm_memory_bytes_used", "Used bytes of JVM memory area",
+            () -> memory.getHeapMemoryUsage().getUsed(), "area", "heap"
+        );
+        this.metrics.gauge(
+            "jvm_memory_bytes_used", "Used bytes of JVM memory area",
+            () -> memory.getNonHeapMemoryUsage().getUsed(), "area", "nonheap"
+        );
+        this.metrics.gauge(
+            "jvm_memory_bytes_committed", "Committed bytes of JVM memory area",
+            () -> memory.getHeapMemoryUsage().getCommitted(), "area", "heap"
+        );
+        this.metrics.gauge(
+            "jvm_memory_bytes_max", "Max bytes of JVM memory area",
+            () -> memory.getHeapMemoryUsage().getMax(), "area", "heap"
+        );
+        for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            this.metrics.counter(
+                "jvm_gc_collections_total", "Number of garbage collections",
+                gc::getCollectionCount, "gc", gc.getName()
+            );
+            this.metrics.counter(
+                "jvm_gc_collection_seconds_total", "Time spent in garbage collections",
+                () -> (double) gc.getCollectionTime() / TimeUnit.SECONDS.toMillis(1),
+                "gc", gc.getName()
+            );
+        }
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        this.metrics.gauge(
+            "jvm_threads_current", "Current number of JVM threads", threads::getThreadCount
+        );
+        this.metrics.gauge(
+            "jvm_threads_daemon", "Number of JVM daemon threads", threads::getDaemonThreadCount
+        );
+        this.metrics.gauge(
+            "jvm_threads_peak", "Peak number of JVM threads", threads::getPeakThreadCount
+        );
+    }
+}
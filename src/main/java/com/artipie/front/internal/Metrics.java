@@ -0,0 +1,260 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Metrics registry.
+ * Keeps metric families by name, each family has metrics by labels,
+ * and writes them in Prometheus text exposition format.
+ * Labels are passed as name-value pairs: {@code "method", "GET", "route", "/signin"}.
+ * @since 1.0
+ */
+public final class Metrics {
+    /**
+     * Metric families by name.
+     */
+    private final ConcurrentMap<String, Family> families;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this.families = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Latency histogram.
+     * @param name Metric name
+     * @param help Metric description
+     * @param labels Label name-value pairs
+     * @return Histogram
+     */
+    public Histogram histogram(final String name, final String help, final String... labels) {
+        return (Histogram) this.family(name, help, "histogram")
+            .metric(labels, Histogram::new);
+    }
+
+    /**
+     * Counter.
+     * @param name Metric name
+     * @param help Metric description
+     * @param labels Label name-value pairs
+     * @return Counter
+     */
+    public LongAdder counter(final String name, final String help, final String... labels) {
+        return ((Counter) this.family(name, help, "counter").metric(labels, Counter::new))
+            .value;
+    }
+
+    /**
+     * Counter with value from supplier, e.g. from JMX bean.
+     * @param name Metric name
+     * @param help Metric description
+     * @param value Counter value
+     * @param labels Label name-value pairs
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void counter(final String name, final String help, final DoubleSupplier value,
+        final String... labels) {
+        this.family(name, help, "counter").metric(labels, () -> new Gauge(value));
+    }
+
+    /**
+     * Gauge.
+     * @param name Metric name
+     * @param help Metric description
+     * @param value Gauge value
+     * @param labels Label name-value pairs
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void gauge(final String name, final String help, final DoubleSupplier value,
+        final String... labels) {
+        this.family(name, help, "gauge").metric(labels, () -> new Gauge(value));
+    }
+
+    /**
+     * Write all metrics in Prometheus text format.
+     * @return Metrics text
+     */
+    public String prometheus() {
+        final StringBuilder out = new StringBuilder();
+        for (final Map.Entry<String, Family> entry : this.families.entrySet()) {
+            entry.getValue().write(out, entry.getKey());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Append sample name with labels.
+     * @param out Output
+     * @param name Sample name
+     * @param labels Formatted labels without braces
+     * @return Output
+     */
+    static StringBuilder sample(final StringBuilder out, final String name,
+        final String labels) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        return out.append(' ');
+    }
+
+    /**
+     * Get or create metric family.
+     * @param name Metric name
+     * @param help Metric description
+     * @param type Metric type
+     * @return Family
+     */
+    private Family family(final String name, final String help, final String type) {
+        return this.families.computeIfAbsent(name, key -> new Family(help, type));
+    }
+
+    /**
+     * Metric.
+     * @since 1.0
+     */
+    interface Metric {
+        /**
+         * Write metric samples.
+         * @param out Output
+         * @param name Metric name
+         * @param labels Formatted labels without braces
+         */
+        void write(StringBuilder out, String name, String labels);
+    }
+
+    /**
+     * Metric family: metrics with the same name and different labels.
+     * @since 1.0
+     */
+    private static final class Family {
+        /**
+         * Description.
+         */
+        private final String help;
+
+        /**
+         * Type.
+         */
+        private final String type;
+
+        /**
+         * Metrics by formatted labels.
+         */
+        private final ConcurrentMap<String, Metric> metrics;
+
+        /**
+         * Ctor.
+         * @param help Description
+         * @param type Type
+         */
+        Family(final String help, final String type) {
+            this.help = help;
+            this.type = type;
+            this.metrics = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Get or create metric.
+         * @param labels Label name-value pairs
+         * @param create Metric factory
+         * @return Metric
+         */
+        Metric metric(final String[] labels,
+            final Supplier<? extends Metric> create) {
+            return this.metrics.computeIfAbsent(Family.format(labels), key -> create.get());
+        }
+
+        /**
+         * Write family.
+         * @param out Output
+         * @param name Metric name
+         */
+        void write(final StringBuilder out, final String name) {
+            out.append("# HELP ").append(name).append(' ').append(this.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(this.type).append('\n');
+            new ConcurrentSkipListMap<>(this.metrics).forEach(
+                (labels, metric) -> metric.write(out, name, labels)
+            );
+        }
+
+        /**
+         * Format labels.
+         * @param labels Label name-value pairs
+         * @return Labels as {@code name="value",...}
+         */
+        private static String format(final String... labels) {
+            final StringBuilder res = new StringBuilder();
+            for (int idx = 0; idx + 1 < labels.length; idx += 2) {
+                if (res.length() > 0) {
+                    res.append(',');
+                }
+                res.append(labels[idx]).append("=\"")
+                    .append(
+                        labels[idx + 1].replace("\\", "\\\\").replace("\"", "\\\"")
+                            .replace("\n", "\\n")
+                    ).append('"');
+            }
+            return res.toString();
+        }
+    }
+
+    /**
+     * Counter.
+     * @since 1.0
+     */
+    private static final class Counter implements Metric {
+        /**
+         * Value.
+         */
+        private final LongAdder value;
+
+        /**
+         * Ctor.
+         */
+        Counter() {
+            this.value = new LongAdder();
+        }
+
+        @Override
+        public void write(final StringBuilder out, final String name, final String labels) {
+            Metrics.sample(out, name, labels).append(this.value.sum()).append('\n');
+        }
+    }
+
+    /**
+     * Gauge with value from supplier.
+     * @since 1.0
+     */
+    private static final class Gauge implements Metric {
+        /**
+         * Value.
+         */
+        private final DoubleSupplier value;
+
+        /**
+         * Ctor.
+         * @param value Value
+         */
+        Gauge(final DoubleSupplier value) {
+            this.value = value;
+        }
+
+        @Override
+        public void write(final StringBuilder out, final String name, final String labels) {
+            Metrics.sample(out, name, labels).append(this.value.getAsDouble()).append('\n');
+        }
+    }
+}
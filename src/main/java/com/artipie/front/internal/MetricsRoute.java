@@ -0,0 +1,35 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * Metrics route.
+ * Returns metrics in Prometheus text exposition format.
+ * @since 1.0
+ */
+public final class MetricsRoute implements Route {
+    /**
+     * Metrics registry.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     * @param metrics Metrics registry
+     */
+    public MetricsRoute(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object handle(final Request request, final Response response) throws Exception {
+        response.type("text/plain; version=0.0.4; charset=utf-8");
+        return this.metrics.prometheus();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.util.function.BooleanSupplier;
+import org.eclipse.jetty.http.HttpStatus;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+/**
+ * Readiness route.
+ * Returns 200 OK if service is ready to accept traffic,
+ * 503 otherwise, e.g. when service is shutting down.
+ * @since 1.0
+ */
+public final class ReadinessRoute implements Route {
+    /**
+     * Readiness check.
+     */
+    private final BooleanSupplier ready;
+
+    /**
+     * Ctor.
+     * @param ready Readiness check
+     */
+    public ReadinessRoute(final BooleanSupplier ready) {
+        this.ready = ready;
+    }
+
+    @Override
+    public Object handle(final Request request, final Response response) throws Exception {
+        final String body;
+        if (this.ready.getAsBoolean()) {
+            response.status(HttpStatus.OK_200);
+            body = "OK";
+        } else {
+            response.status(HttpStatus.SERVICE_UNAVAILABLE_503);
+            body = "NOT READY";
+        }
+        return body;
+    }
+}
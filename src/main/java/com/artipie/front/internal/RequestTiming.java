@@ -0,0 +1,324 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import com.artipie.front.RequestAttr;
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import spark.Filter;
+import spark.Request;
+
+/**
+ * Per-request timing of upstream calls, conversion and template rendering.
+ * Timing of the request handled by current thread is kept in thread local,
+ * phases are added by the code doing the work; tasks which the request runs
+ * on other threads should be wrapped with {@link #propagate(Callable)}. When request is completed,
+ * timing is sent in {@code Server-Timing} response header, and requests
+ * slower than the threshold are written to {@code com.artipie.front.slow} log
+ * with the route, repository and upstream calls.
+ * @since 1.0
+ */
+public final class RequestTiming {
+    /**
+     * Name of slow requests log.
+     */
+    public static final String SLOW_LOG = "com.artipie.front.slow";
+
+    /**
+     * Timing of the request handled by current thread.
+     */
+    private static final ThreadLocal<Timing> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Max number of upstream calls to remember per request.
+     */
+    private static final int MAX_CALLS = 50;
+
+    /**
+     * Slow request threshold.
+     */
+    private final Duration threshold;
+
+    /**
+     * Ctor.
+     * @param threshold Slow request threshold
+     */
+    public RequestTiming(final Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Filter to start request timing, should be registered as before-filter.
+     * @return Before filter
+     */
+    public Filter start() {
+        return (req, rsp) -> RequestTiming.CURRENT.set(new Timing(System.nanoTime()));
+    }
+
+    /**
+     * Filter to send timing header and log slow request, should be registered
+     * as after-after filter, response body is not written yet at this point.
+     * @return After-after filter
+     */
+    public Filter finish() {
+        return (req, rsp) -> {
+            final Timing timing = RequestTiming.CURRENT.get();
+            RequestTiming.CURRENT.remove();
+            if (timing != null) {
+                final long total = System.nanoTime() - timing.start;
+                rsp.header("Server-Timing", timing.header(total));
+                if (total >= this.threshold.toNanos()) {
+                    Logger.warn(
+                        RequestTiming.SLOW_LOG,
+                        "%s %s (route %s, repository %s, traceparent %s) took %s, %s: %s",
+                        req.requestMethod(), req.pathInfo(), RouteMetrics.route(req),
+                        timing.repository,
+                        RequestAttr.Standard.TRACE_PARENT.read(req).orElse("-"),
+                        RequestTiming.millis(total), timing.header(total),
+                        timing.calls()
+                    );
+                }
+            }
+        };
+    }
+
+    /**
+     * Remember repository of the routed request handled by current thread,
+     * should be called by the route, as route parameters are not available in filters.
+     * @param req Request
+     */
+    static void routed(final Request req) {
+        final Timing timing = RequestTiming.CURRENT.get();
+        if (timing != null) {
+            timing.repository = Optional.ofNullable(req.params(":repo")).orElse("-");
+        }
+    }
+
+    /**
+     * Add time spent in the phase by the request handled by current thread.
+     * @param phase Phase
+     * @param nanos Time in nanoseconds
+     */
+    public static void add(final Phase phase, final long nanos) {
+        final Timing timing = RequestTiming.CURRENT.get();
+        if (timing != null) {
+            synchronized (timing) {
+                timing.phases.merge(phase, nanos, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Task which adds its phases and upstream calls to timing of the request
+     * handled by current thread, wherever the task runs.
+     * @param task Task
+     * @param <T> Result type
+     * @return Task with timing of current request
+     */
+    public static <T> Callable<T> propagate(final Callable<T> task) {
+        final Timing timing = RequestTiming.CURRENT.get();
+        return () -> {
+            final Timing prev = RequestTiming.CURRENT.get();
+            RequestTiming.CURRENT.set(timing);
+            try {
+                return task.call();
+            } finally {
+                RequestTiming.CURRENT.set(prev);
+            }
+        };
+    }
+
+    /**
+     * Task which adds its phases and upstream calls to timing of the request
+     * handled by current thread, wherever the task runs.
+     * @param task Task
+     * @return Task with timing of current request
+     */
+    public static Runnable propagate(final Runnable task) {
+        final Timing timing = RequestTiming.CURRENT.get();
+        return () -> {
+            final Timing prev = RequestTiming.CURRENT.get();
+            RequestTiming.CURRENT.set(timing);
+            try {
+                task.run();
+            } finally {
+                RequestTiming.CURRENT.set(prev);
+            }
+        };
+    }
+
+    /**
+     * Add upstream call made by the request handled by current thread.
+     * @param operation Logical operation name
+     * @param path Request URI path
+     * @param status Response status
+     * @param nanos Time in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public static void upstream(final String operation, final String path,
+        final String status, final long nanos) {
+        final Timing timing = RequestTiming.CURRENT.get();
+        if (timing != null) {
+            synchronized (timing) {
+                timing.phases.merge(Phase.UPSTREAM, nanos, Long::sum);
+                timing.count += 1;
+                if (timing.calls.size() < RequestTiming.MAX_CALLS) {
+                    timing.calls.add(
+                        String.format(
+                            "%s %s %s %s", operation, path, status, RequestTiming.millis(nanos)
+                        )
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Format nanoseconds as milliseconds.
+     * @param nanos Nanoseconds
+     * @return Milliseconds text
+     */
+    private static String millis(final long nanos) {
+        return String.format(
+            Locale.US, "%.1fms", (double) nanos / TimeUnit.MILLISECONDS.toNanos(1)
+        );
+    }
+
+    /**
+     * Timed phase of request.
+     * @since 1.0
+     */
+    public enum Phase {
+        /**
+         * Waiting for Artipie REST API.
+         */
+        UPSTREAM("upstream"),
+
+        /**
+         * Conversion between YAML and JSON.
+         */
+        CONVERSION("conversion"),
+
+        /**
+         * Template rendering.
+         */
+        RENDER("render");
+
+        /**
+         * Metric name in header.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param name Metric name in header
+         */
+        Phase(final String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Timing of single request, it's updated by threads of the request
+     * under its own lock.
+     * @since 1.0
+     */
+    private static final class Timing {
+        /**
+         * Request start time.
+         */
+        private final long start;
+
+        /**
+         * Time by phase.
+         */
+        private final Map<Phase, Long> phases;
+
+        /**
+         * Upstream calls.
+         */
+        private final List<String> calls;
+
+        /**
+         * Number of upstream calls.
+         */
+        private int count;
+
+        /**
+         * Repository name of the route.
+         */
+        private String repository;
+
+        /**
+         * Ctor.
+         * @param start Request start time
+         */
+        Timing(final long start) {
+            this.start = start;
+            this.phases = new EnumMap<>(Phase.class);
+            this.calls = new ArrayList<>(0);
+            this.repository = "-";
+        }
+
+        /**
+         * Server-Timing header value.
+         * @param total Total request time
+         * @return Header value
+         */
+        synchronized String header(final long total) {
+            final StringBuilder res = new StringBuilder();
+            for (final Map.Entry<Phase, Long> phase : this.phases.entrySet()) {
+                Timing.metric(res, phase.getKey().name, phase.getValue()).append(", ");
+            }
+            return Timing.metric(res, "total", total).toString();
+        }
+
+        /**
+         * Upstream calls description.
+         * @return Calls text
+         */
+        synchronized String calls() {
+            final String res;
+            if (this.count == 0) {
+                res = "no upstream calls";
+            } else {
+                final String more;
+                if (this.count > this.calls.size()) {
+                    more = ", ...";
+                } else {
+                    more = "";
+                }
+                res = String.format(
+                    "%d upstream calls [%s%s]", this.count, String.join(", ", this.calls), more
+                );
+            }
+            return res;
+        }
+
+        /**
+         * Append metric to header.
+         * @param out Header
+         * @param name Metric name
+         * @param nanos Time in nanoseconds
+         * @return Header
+         */
+        private static StringBuilder metric(final StringBuilder out, final String name,
+            final long nanos) {
+            return out.append(name).append(";dur=").append(
+                String.format(
+                    Locale.US, "%.1f", (double) nanos / TimeUnit.MILLISECONDS.toNanos(1)
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer ring buffer.
+ * Every slot has a sequence number telling whether it's free for the
+ * producer of the given position or filled for the consumer, so producers
+ * and consumer never block each other; producer fails at once when
+ * the buffer is full.
+ * @param <T> Element type
+ * @since 1.0
+ */
+final class RingBuffer<T> {
+    /**
+     * Slots.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Sequence numbers of slots.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * Index mask, capacity is a power of two.
+     */
+    private final int mask;
+
+    /**
+     * Next position to write.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * Next position to read.
+     */
+    private final AtomicLong head;
+
+    /**
+     * Ctor.
+     * @param capacity Min capacity, rounded up to a power of two
+     */
+    RingBuffer(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int idx = 0; idx < size; ++idx) {
+            this.sequences.set(idx, idx);
+        }
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+    }
+
+    /**
+     * Add element if there is free slot.
+     * @param item Element
+     * @return False if buffer is full
+     */
+    boolean offer(final T item) {
+        boolean res = false;
+        long pos = this.tail.get();
+        while (true) {
+            final int idx = (int) pos & this.mask;
+            final long diff = this.sequences.get(idx) - pos;
+            if (diff == 0) {
+                if (this.tail.compareAndSet(pos, pos + 1)) {
+                    this.slots.set(idx, item);
+                    this.sequences.set(idx, pos + 1);
+                    res = true;
+                    break;
+                }
+                pos = this.tail.get();
+            } else if (diff < 0) {
+                break;
+            } else {
+                pos = this.tail.get();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Take next element, should be called by single consumer.
+     * @return Element or null if buffer is empty
+     */
+    T poll() {
+        final long pos = this.head.get();
+        final int idx = (int) pos & this.mask;
+        T res = null;
+        if (this.sequences.get(idx) == pos + 1) {
+            res = this.slots.get(idx);
+            this.slots.set(idx, null);
+            this.sequences.set(idx, pos + this.mask + 1);
+            this.head.set(pos + 1);
+        }
+        return res;
+    }
+
+    /**
+     * Buffer capacity.
+     * @return Capacity
+     */
+    int capacity() {
+        return this.mask + 1;
+    }
+}
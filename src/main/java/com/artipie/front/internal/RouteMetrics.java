@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import com.artipie.front.jfr.RouteEvent;
+import java.util.Optional;
+import spark.Filter;
+import spark.Request;
+import spark.Route;
+import spark.TemplateViewRoute;
+
+/**
+ * Latency and status metrics of Spark routes.
+ * Spark exposes matched route pattern only to the route itself, so routes
+ * are wrapped to remember their pattern in request attribute; requests
+ * which were not routed (static assets, rejected by filters, not found)
+ * are labeled as {@code other}.
+ * @since 1.0
+ */
+public final class RouteMetrics {
+    /**
+     * Request attribute of request start time.
+     */
+    private static final String START = "metrics.start";
+
+    /**
+     * Request attribute of matched route pattern.
+     */
+    private static final String ROUTE = "metrics.route";
+
+    /**
+     * Request attribute of binary route result, which is not kept by Spark response.
+     */
+    private static final String RESULT = "metrics.result";
+
+    /**
+     * Metrics registry.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Ctor.
+     * @param metrics Metrics registry
+     */
+    public RouteMetrics(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Filter to start request timer, should be registered as the first before-filter.
+     * @return Before filter
+     */
+    public Filter start() {
+        return (req, rsp) -> req.attribute(RouteMetrics.START, System.nanoTime());
+    }
+
+    /**
+     * Filter to record request metrics and forget the route of
+     * current thread, should be registered as after-after filter.
+     * @return After-after filter
+     */
+    public Filter finish() {
+        return (req, rsp) -> {
+            RouteEvent.clear();
+            final Long start = RouteMetrics.started(req);
+            if (start != null) {
+                final String route = RouteMetrics.route(req);
+                this.metrics.histogram(
+                    "front_http_request_duration_seconds",
+                    "Latency of HTTP requests by route",
+                    "method", req.requestMethod(), "route", route
+                ).record(System.nanoTime() - start);
+                this.metrics.counter(
+                    "front_http_responses_total",
+                    "HTTP responses by route and status",
+                    "method", req.requestMethod(), "route", route,
+                    "status", Integer.toString(rsp.status())
+                ).increment();
+            }
+        };
+    }
+
+    /**
+     * Wrap route to remember its pattern and record {@link RouteEvent}.
+     * @param origin Route
+     * @return Wrapped route
+     */
+    public Route route(final Route origin) {
+        return (req, rsp) -> {
+            req.attribute(RouteMetrics.ROUTE, req.matchedPath());
+            RequestTiming.routed(req);
+            final Object res = RouteEvent.record(req, rsp, () -> origin.handle(req, rsp));
+            if (res instanceof byte[]) {
+                req.attribute(RouteMetrics.RESULT, res);
+            }
+            return res;
+        };
+    }
+
+    /**
+     * Wrap page route to remember its pattern and record {@link RouteEvent}.
+     * @param origin Template view route
+     * @return Wrapped route
+     */
+    public TemplateViewRoute page(final TemplateViewRoute origin) {
+        return (req, rsp) -> {
+            req.attribute(RouteMetrics.ROUTE, req.matchedPath());
+            RequestTiming.routed(req);
+            return RouteEvent.record(req, rsp, () -> origin.handle(req, rsp));
+        };
+    }
+
+    /**
+     * Matched route pattern of the request.
+     * @param req Request
+     * @return Route pattern or {@code other}
+     */
+    static String route(final Request req) {
+        return Optional.ofNullable(req.<String>attribute(RouteMetrics.ROUTE)).orElse("other");
+    }
+
+    /**
+     * Request start time.
+     * @param req Request
+     * @return Start time in nanoseconds or null if timer was not started
+     */
+    static Long started(final Request req) {
+        return req.attribute(RouteMetrics.START);
+    }
+
+    /**
+     * Binary route result, Spark response keeps only text body.
+     * @param req Request
+     * @return Result bytes or null
+     */
+    static byte[] result(final Request req) {
+        return req.attribute(RouteMetrics.RESULT);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.jfr;
+
+import com.artipie.front.misc.Utf8;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Conversion of repository configuration between YAML and JSON.
+ * @since 1.0
+ */
+@Name("com.artipie.front.Conversion")
+@Label("Conversion")
+@Category({"Artipie", "Front"})
+@Description("Conversion of repository configuration between YAML and JSON")
+@StackTrace(false)
+@SuppressWarnings("PMD.ImmutableField")
+public final class ConversionEvent extends Event {
+    /**
+     * Route which made the conversion.
+     */
+    @Label("Route")
+    private String route;
+
+    /**
+     * Repository name.
+     */
+    @Label("Repository")
+    private String repository;
+
+    /**
+     * Conversion name, e.g. {@code yaml-to-json}.
+     */
+    @Label("Conversion")
+    private String conversion;
+
+    /**
+     * Input size.
+     */
+    @Label("Input Size")
+    @DataAmount
+    private long input;
+
+    /**
+     * Output size.
+     */
+    @Label("Output Size")
+    @DataAmount
+    private long output;
+
+    /**
+     * Start the event.
+     * @param conversion Conversion name, e.g. {@code yaml-to-json}
+     * @param input Input text
+     */
+    public ConversionEvent(final String conversion, final CharSequence input) {
+        super();
+        if (this.isEnabled()) {
+            this.route = RouteEvent.route();
+            this.repository = RouteEvent.repository();
+            this.conversion = conversion;
+            this.input = Utf8.length(input);
+        }
+        this.begin();
+    }
+
+    /**
+     * Complete the event.
+     * @param out Output, converted to text only if event is recorded
+     */
+    public void complete(final Object out) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.output = Utf8.length(out.toString());
+            this.commit();
+        }
+    }
+}
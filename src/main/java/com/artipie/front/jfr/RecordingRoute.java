@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.jfr;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Configuration;
+import javax.servlet.AsyncContext;
+import jdk.jfr.Recording;
+import org.eclipse.jetty.http.HttpStatus;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+import spark.Spark;
+
+/**
+ * Flight recording route.
+ * Starts time-bounded JFR recording with {@code profile} settings and
+ * custom front events, waits for it to complete and streams recording file
+ * back. Duration is set by {@code seconds} query parameter. Only admin users
+ * are allowed to record, only one recording may run at a time. Recording runs
+ * on a virtual thread and the response is completed asynchronously, so it
+ * doesn't hold a server thread while recording.
+ * @since 1.0
+ */
+public final class RecordingRoute implements Route {
+    /**
+     * Default recording duration.
+     */
+    private static final Duration DEFAULT = Duration.ofSeconds(30);
+
+    /**
+     * Max recording duration.
+     */
+    private static final Duration MAX = Duration.ofMinutes(5);
+
+    /**
+     * Admin user IDs.
+     */
+    private final Set<String> admins;
+
+    /**
+     * Recording in progress flag.
+     */
+    private final AtomicBoolean busy;
+
+    /**
+     * Ctor.
+     * @param admins Admin user IDs
+     */
+    public RecordingRoute(final Set<String> admins) {
+        this.admins = admins;
+        this.busy = new AtomicBoolean();
+    }
+
+    @Override
+    public Object handle(final Request req, final Response rsp) throws Exception {
+        final String uid = Optional.ofNullable(req.session())
+            .map(session -> session.<String>attribute("uid")).orElse(null);
+        if (uid == null || !this.admins.contains(uid)) {
+            Spark.halt(HttpStatus.FORBIDDEN_403, "Recording is allowed to admins only");
+        }
+        final Duration duration = RecordingRoute.duration(req);
+        if (!this.busy.compareAndSet(false, true)) {
+            Spark.halt(HttpStatus.CONFLICT_409, "Recording is already in progress");
+        }
+        rsp.type("application/octet-stream");
+        rsp.header(
+            "Content-Disposition",
+            String.format(
+                "attachment; filename=\"front-%d.jfr\"", Instant.now().getEpochSecond()
+            )
+        );
+        final AsyncContext async;
+        try {
+            async = req.raw().startAsync();
+            async.setTimeout(0);
+            rsp.raw().flushBuffer();
+        } catch (final IOException err) {
+            this.busy.set(false);
+            throw err;
+        }
+        Thread.ofVirtual().name("flight-recording").start(
+            () -> {
+                try {
+                    this.send(uid, duration, async);
+                } finally {
+                    this.busy.set(false);
+                    async.complete();
+                }
+            }
+        );
+        return "";
+    }
+
+    /**
+     * Record flight recording and stream it to the response.
+     * @param uid User ID
+     * @param duration Recording duration
+     * @param async Async context of the response
+     */
+    private void send(final String uid, final Duration duration, final AsyncContext async) {
+        try {
+            final Path file = Files.createTempFile("front", ".jfr");
+            try {
+                RecordingRoute.record(duration, file);
+                Logger.info(
+                    this, "flight recording of %[ms]s by %s: %d bytes",
+                    duration.toMillis(), uid, Files.size(file)
+                );
+                try (OutputStream out = async.getResponse().getOutputStream()) {
+                    Files.copy(file, out);
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            Logger.warn(this, "flight recording by %s interrupted", uid);
+        } catch (final IOException | ParseException err) {
+            Logger.warn(this, "flight recording by %s failed: %[exception]s", uid, err);
+        }
+    }
+
+    /**
+     * Record flight recording to file.
+     * @param duration Recording duration
+     * @param file Recording file
+     * @throws IOException On error
+     * @throws ParseException If settings are invalid
+     * @throws InterruptedException If interrupted while recording
+     */
+    private static void record(final Duration duration, final Path file)
+        throws IOException, ParseException, InterruptedException {
+        try (Recording rec = new Recording(Configuration.getConfiguration("profile"))) {
+            rec.setName("front");
+            rec.setToDisk(true);
+            rec.enable(RouteEvent.class);
+            rec.enable(UpstreamEvent.class);
+            rec.enable(ConversionEvent.class);
+            rec.enable(RenderEvent.class);
+            rec.start();
+            Thread.sleep(duration.toMillis());
+            rec.stop();
+            rec.dump(file);
+        }
+    }
+
+    /**
+     * Recording duration from request.
+     * @param req Request
+     * @return Duration, not longer than max duration
+     */
+    private static Duration duration(final Request req) {
+        Duration res = RecordingRoute.DEFAULT;
+        final String seconds = req.queryParams("seconds");
+        if (seconds != null) {
+            try {
+                res = Duration.ofSeconds(Long.parseLong(seconds));
+            } catch (final NumberFormatException err) {
+                Spark.halt(HttpStatus.BAD_REQUEST_400, "Invalid seconds parameter");
+            }
+            if (res.isNegative() || res.isZero() || res.compareTo(RecordingRoute.MAX) > 0) {
+                Spark.halt(
+                    HttpStatus.BAD_REQUEST_400,
+                    String.format("Seconds should be from 1 to %d", RecordingRoute.MAX.toSeconds())
+                );
+            }
+        }
+        return res;
+    }
+}
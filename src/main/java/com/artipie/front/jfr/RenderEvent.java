@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.jfr;
+
+import com.artipie.front.misc.Utf8;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rendering of Handlebars template.
+ * @since 1.0
+ */
+@Name("com.artipie.front.Render")
+@Label("Render")
+@Category({"Artipie", "Front"})
+@Description("Rendering of Handlebars template")
+@StackTrace(false)
+@SuppressWarnings("PMD.ImmutableField")
+public final class RenderEvent extends Event {
+    /**
+     * Route which rendered the template.
+     */
+    @Label("Route")
+    private String route;
+
+    /**
+     * Repository name.
+     */
+    @Label("Repository")
+    private String repository;
+
+    /**
+     * Repository type.
+     */
+    @Label("Repository Type")
+    private String type;
+
+    /**
+     * Template name.
+     */
+    @Label("Template")
+    private String template;
+
+    /**
+     * Rendered content size.
+     */
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Start the event.
+     * @param template Template name
+     */
+    public RenderEvent(final String template) {
+        super();
+        this.template = template;
+        this.begin();
+    }
+
+    /**
+     * Complete the event.
+     * @param content Rendered content
+     */
+    public void complete(final CharSequence content) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.route = RouteEvent.route();
+            this.repository = RouteEvent.repository();
+            this.type = RouteEvent.type();
+            this.bytes = Utf8.length(content);
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.jfr;
+
+import com.artipie.front.misc.Utf8;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Handling of HTTP request by Spark route.
+ * Event of the route being handled is kept in thread local until
+ * {@link #clear()}, so upstream, conversion and rendering events of the same
+ * request are labeled with its route and repository. Pages are rendered by Spark
+ * after the route returns, so page rendering is recorded by {@link RenderEvent}.
+ * @since 1.0
+ */
+@Name("com.artipie.front.Route")
+@Label("Route")
+@Category({"Artipie", "Front"})
+@Description("Handling of HTTP request by Spark route")
+@StackTrace(false)
+@SuppressWarnings({"PMD.AvoidFieldNameMatchingMethodName", "PMD.ImmutableField"})
+public final class RouteEvent extends Event {
+    /**
+     * Event of the route handled by current thread.
+     */
+    private static final ThreadLocal<RouteEvent> CURRENT = new ThreadLocal<>();
+
+    /**
+     * HTTP method.
+     */
+    @Label("Method")
+    private String method;
+
+    /**
+     * Route pattern.
+     */
+    @Label("Route")
+    private String route;
+
+    /**
+     * Repository name.
+     */
+    @Label("Repository")
+    private String repository;
+
+    /**
+     * Repository type.
+     */
+    @Label("Repository Type")
+    private String type;
+
+    /**
+     * Response status.
+     */
+    @Label("Status")
+    private int status;
+
+    /**
+     * Response size, it's zero for pages, see rendering events for their size.
+     */
+    @Label("Response Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ctor.
+     * @param req Request
+     */
+    private RouteEvent(final Request req) {
+        super();
+        this.method = req.requestMethod();
+        this.route = req.matchedPath();
+        this.repository = Optional.ofNullable(req.params(":repo")).orElse("");
+        this.type = "";
+    }
+
+    /**
+     * Handle request by route and record the event.
+     * @param req Request
+     * @param rsp Response
+     * @param route Route action
+     * @param <T> Result type
+     * @return Route result
+     * @throws Exception If route fails
+     */
+    public static <T> T record(final Request req, final Response rsp,
+        final Callable<T> route) throws Exception {
+        final RouteEvent event = new RouteEvent(req);
+        RouteEvent.CURRENT.set(event);
+        event.begin();
+        try {
+            final T res = route.call();
+            if (event.isEnabled()) {
+                event.bytes = RouteEvent.size(res);
+            }
+            return res;
+        } finally {
+            event.status = rsp.status();
+            event.commit();
+        }
+    }
+
+    /**
+     * Forget the route handled by current thread, should be called
+     * when request is completed.
+     */
+    public static void clear() {
+        RouteEvent.CURRENT.remove();
+    }
+
+    /**
+     * Set repository type of the route handled by current thread.
+     * @param type Repository type
+     */
+    public static void repositoryType(final String type) {
+        final RouteEvent event = RouteEvent.CURRENT.get();
+        if (event != null && event.type.isEmpty() && type != null) {
+            event.type = type;
+        }
+    }
+
+    /**
+     * Route pattern handled by current thread.
+     * @return Route or empty string
+     */
+    static String route() {
+        return Optional.ofNullable(RouteEvent.CURRENT.get()).map(evt -> evt.route).orElse("");
+    }
+
+    /**
+     * Repository of the route handled by current thread.
+     * @return Repository name or empty string
+     */
+    static String repository() {
+        return Optional.ofNullable(RouteEvent.CURRENT.get())
+            .map(evt -> evt.repository).orElse("");
+    }
+
+    /**
+     * Repository type of the route handled by current thread.
+     * @return Repository type or empty string
+     */
+    static String type() {
+        return Optional.ofNullable(RouteEvent.CURRENT.get()).map(evt -> evt.type).orElse("");
+    }
+
+    /**
+     * Size of route result.
+     * @param res Result
+     * @return Size in bytes, zero if unknown
+     */
+    private static long size(final Object res) {
+        final long size;
+        if (res instanceof byte[]) {
+            size = ((byte[]) res).length;
+        } else if (res instanceof CharSequence) {
+            size = Utf8.length((CharSequence) res);
+        } else {
+            size = 0;
+        }
+        return size;
+    }
+}
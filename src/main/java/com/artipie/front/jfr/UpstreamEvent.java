@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HTTP call to Artipie REST API.
+ * @since 1.0
+ */
+@Name("com.artipie.front.Upstream")
+@Label("Upstream Call")
+@Category({"Artipie", "Front"})
+@Description("HTTP call to Artipie REST API")
+@StackTrace(false)
+@SuppressWarnings("PMD.ImmutableField")
+public final class UpstreamEvent extends Event {
+    /**
+     * Route which made the call.
+     */
+    @Label("Route")
+    private String route;
+
+    /**
+     * Repository name.
+     */
+    @Label("Repository")
+    private String repository;
+
+    /**
+     * Logical operation name.
+     */
+    @Label("Operation")
+    private String operation;
+
+    /**
+     * Request URI path.
+     */
+    @Label("Path")
+    private String path;
+
+    /**
+     * Response status, HTTP code, {@code timeout} or {@code error}.
+     */
+    @Label("Status")
+    private String status;
+
+    /**
+     * Response size.
+     */
+    @Label("Response Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Start the event.
+     * @param operation Logical operation name
+     * @param path Request URI path
+     */
+    public UpstreamEvent(final String operation, final String path) {
+        super();
+        this.route = RouteEvent.route();
+        this.repository = RouteEvent.repository();
+        this.operation = operation;
+        this.path = path;
+        this.status = "error";
+        this.begin();
+    }
+
+    /**
+     * Complete the event.
+     * @param code Response status
+     * @param size Response size
+     */
+    public void complete(final String code, final long size) {
+        this.status = code;
+        this.bytes = size;
+        this.commit();
+    }
+}
@@ -6,6 +6,8 @@ package com.artipie.front.misc;
 
 import com.amihaiemil.eoyaml.Yaml;
 import com.amihaiemil.eoyaml.YamlMapping;
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.jfr.ConversionEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
@@ -21,14 +23,18 @@ public final class Json2Yaml implements Function<String, YamlMapping> {
 
     @Override
     public YamlMapping apply(final String json) {
+        final ConversionEvent event = new ConversionEvent("json-to-yaml", json);
+        final long start = System.nanoTime();
         try {
-            return Yaml.createYamlInput(
-                new YAMLMapper()
-                    .configure(YAMLGenerator.Feature.INDENT_ARRAYS_WITH_INDICATOR, true)
-                    .writeValueAsString(new ObjectMapper().readTree(json))
-            ).readYamlMapping();
+            final String yaml = new YAMLMapper()
+                .configure(YAMLGenerator.Feature.INDENT_ARRAYS_WITH_INDICATOR, true)
+                .writeValueAsString(new ObjectMapper().readTree(json));
+            event.complete(yaml);
+            return Yaml.createYamlInput(yaml).readYamlMapping();
         } catch (final IOException err) {
             throw new UncheckedIOException(err);
+        } finally {
+            RequestTiming.add(RequestTiming.Phase.CONVERSION, System.nanoTime() - start);
         }
     }
 }
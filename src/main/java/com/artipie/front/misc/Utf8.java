@@ -0,0 +1,43 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.misc;
+
+/**
+ * Size of text in UTF-8 without encoding it.
+ * @since 1.0
+ */
+public final class Utf8 {
+    /**
+     * Ctor.
+     */
+    private Utf8() {
+    }
+
+    /**
+     * Length of text in UTF-8.
+     * @param text Text
+     * @return Number of bytes
+     * @checkstyle MagicNumberCheck (20 lines)
+     */
+    public static long length(final CharSequence text) {
+        long res = 0;
+        int idx = 0;
+        while (idx < text.length()) {
+            final char chr = text.charAt(idx);
+            if (chr < 0x80) {
+                res += 1;
+            } else if (chr < 0x800) {
+                res += 2;
+            } else if (Character.isHighSurrogate(chr)) {
+                res += 4;
+                idx += 1;
+            } else {
+                res += 3;
+            }
+            idx += 1;
+        }
+        return res;
+    }
+}
@@ -4,6 +4,8 @@
  */
 package com.artipie.front.misc;
 
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.jfr.ConversionEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import java.io.ByteArrayInputStream;
@@ -21,8 +23,10 @@ public final class Yaml2Json implements Function<String, JsonStructure> {
 
     @Override
     public JsonStructure apply(final String yaml) {
+        final ConversionEvent event = new ConversionEvent("yaml-to-json", yaml);
+        final long start = System.nanoTime();
         try {
-            return Json.createReader(
+            final JsonStructure json = Json.createReader(
                 new ByteArrayInputStream(
                     new ObjectMapper().writeValueAsBytes(
                         new ObjectMapper(new YAMLFactory())
@@ -30,8 +34,12 @@ public final class Yaml2Json implements Function<String, JsonStructure> {
                     )
                 )
             ).read();
+            event.complete(json);
+            return json;
         } catch (final IOException ex) {
             throw new UncheckedIOException(ex);
+        } finally {
+            RequestTiming.add(RequestTiming.Phase.CONVERSION, System.nanoTime() - start);
         }
     }
 
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptive limit of in-flight upstream requests.
+ * Limit is adjusted by latency gradient: long-term round-trip time is
+ * compared with the latest one, the limit grows while latency stays
+ * close to the baseline and shrinks when latency goes up, dropped
+ * requests (timeouts, overload statuses) decrease the limit
+ * multiplicatively.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+public final class AdaptiveLimit implements AdaptiveLimitMBean {
+    /**
+     * Latency tolerance, how much latency may grow before limit goes down.
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * Smoothing factor of limit changes.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * Window of long-term latency average in samples.
+     */
+    private static final double WINDOW = 600;
+
+    /**
+     * Decrease factor on dropped request.
+     */
+    private static final double BACKOFF = 0.9;
+
+    /**
+     * Min limit.
+     */
+    private final int min;
+
+    /**
+     * Max limit.
+     */
+    private final int max;
+
+    /**
+     * In-flight requests.
+     */
+    private final AtomicInteger inflight;
+
+    /**
+     * Rejected requests.
+     */
+    private final AtomicLong rejected;
+
+    /**
+     * Current limit.
+     */
+    private double limit;
+
+    /**
+     * Long-term latency in nanoseconds.
+     */
+    private double baseline;
+
+    /**
+     * Short-term latency in nanoseconds.
+     */
+    private double latency;
+
+    /**
+     * Ctor with default limits.
+     */
+    public AdaptiveLimit() {
+        this(20, 1, 200);
+    }
+
+    /**
+     * Ctor.
+     * @param initial Initial limit
+     * @param min Min limit
+     * @param max Max limit
+     */
+    public AdaptiveLimit(final int initial, final int min, final int max) {
+        this.limit = initial;
+        this.min = min;
+        this.max = max;
+        this.inflight = new AtomicInteger();
+        this.rejected = new AtomicLong();
+    }
+
+    /**
+     * Try to acquire slot for upstream request.
+     * Each successful acquire must be followed by {@link #release(long, boolean)}.
+     * @return True if request is allowed
+     */
+    public boolean acquire() {
+        final int cap = this.getLimit();
+        boolean acquired = false;
+        int current = this.inflight.get();
+        while (current < cap) {
+            if (this.inflight.compareAndSet(current, current + 1)) {
+                acquired = true;
+                break;
+            }
+            current = this.inflight.get();
+        }
+        if (!acquired) {
+            this.rejected.incrementAndGet();
+        }
+        return acquired;
+    }
+
+    /**
+     * Release slot and update limit.
+     * @param rtt Round-trip time of request in nanoseconds
+     * @param dropped True if request was dropped: timed out or overloaded
+     */
+    public void release(final long rtt, final boolean dropped) {
+        final int current = this.inflight.getAndDecrement();
+        synchronized (this) {
+            final double next;
+            if (dropped) {
+                next = this.limit * AdaptiveLimit.BACKOFF;
+            } else {
+                this.sample(rtt);
+                if (current < this.limit / 2) {
+                    next = this.limit;
+                } else {
+                    final double gradient = Math.max(
+                        0.5, Math.min(1.0, AdaptiveLimit.TOLERANCE * this.baseline / rtt)
+                    );
+                    next = this.limit * (1 - AdaptiveLimit.SMOOTHING)
+                        + (this.limit * gradient + Math.sqrt(this.limit))
+                        * AdaptiveLimit.SMOOTHING;
+                }
+            }
+            this.limit = Math.max(this.min, Math.min(this.max, next));
+        }
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return (int) this.limit;
+    }
+
+    @Override
+    public int getInflight() {
+        return this.inflight.get();
+    }
+
+    @Override
+    public synchronized double getLatencyMillis() {
+        return this.latency / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public synchronized double getBaselineMillis() {
+        return this.baseline / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getRejected() {
+        return this.rejected.get();
+    }
+
+    /**
+     * Add latency sample.
+     * @param rtt Round-trip time in nanoseconds
+     */
+    private void sample(final long rtt) {
+        if (this.baseline == 0) {
+            this.baseline = rtt;
+            this.latency = rtt;
+        } else {
+            this.baseline += (rtt - this.baseline) / AdaptiveLimit.WINDOW;
+            this.latency += (rtt - this.latency) * AdaptiveLimit.SMOOTHING;
+            if (this.baseline / this.latency > 2) {
+                this.baseline *= 0.95;
+            }
+        }
+    }
+}
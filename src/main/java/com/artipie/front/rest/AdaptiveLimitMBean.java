@@ -0,0 +1,41 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+/**
+ * Metrics of {@link AdaptiveLimit} exposed via JMX.
+ * @since 1.0
+ */
+public interface AdaptiveLimitMBean {
+    /**
+     * Current limit of in-flight upstream requests.
+     * @return Limit
+     */
+    int getLimit();
+
+    /**
+     * Number of in-flight upstream requests.
+     * @return In-flight requests
+     */
+    int getInflight();
+
+    /**
+     * Smoothed round-trip latency of upstream requests.
+     * @return Latency in milliseconds
+     */
+    double getLatencyMillis();
+
+    /**
+     * Baseline (long-term) round-trip latency of upstream requests.
+     * @return Latency in milliseconds
+     */
+    double getBaselineMillis();
+
+    /**
+     * Number of requests rejected by the limit.
+     * @return Rejected requests
+     */
+    long getRejected();
+}
@@ -4,6 +4,7 @@
  */
 package com.artipie.front.rest;
 
+import com.artipie.front.internal.Metrics;
 import java.util.Optional;
 import javax.json.Json;
 
@@ -26,6 +27,16 @@ public class AuthService extends BaseService {
         super(rest);
     }
 
+    /**
+     * Ctor.
+     * @param rest Artipie rest endpoint.
+     * @param limit Limit of in-flight upstream requests.
+     * @param metrics Metrics of upstream requests.
+     */
+    public AuthService(final String rest, final AdaptiveLimit limit, final Metrics metrics) {
+        super(rest, limit, metrics);
+    }
+
     /**
      * Obtain JWT-token from auth rest-service.
      * @param name User name.
@@ -35,6 +46,7 @@ public class AuthService extends BaseService {
     public String getJwtToken(final String name, final String password) {
         return BaseService.handle(
             this.httpPost(
+                "token",
                 Optional.empty(),
                 AuthService.TOKEN_PATH,
                 () ->
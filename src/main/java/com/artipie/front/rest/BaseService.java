@@ -6,7 +6,13 @@ package com.artipie.front.rest;
 
 import com.artipie.ArtipieException;
 import com.artipie.front.RestException;
+import com.artipie.front.internal.Metrics;
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.jfr.UpstreamEvent;
 import com.artipie.front.misc.Json2Yaml;
+import com.artipie.front.misc.Utf8;
+import com.artipie.front.trace.TraceParent;
+import com.artipie.front.trace.Tracing;
 import com.google.common.net.HttpHeaders;
 import java.io.IOException;
 import java.io.StringReader;
@@ -15,9 +21,11 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.json.Json;
@@ -41,17 +49,44 @@ public class BaseService {
      */
     private static final Duration TIMEOUT = Duration.of(1, ChronoUnit.MINUTES);
 
+    /**
+     * Too many requests http status code.
+     */
+    private static final int TOO_MANY_REQUESTS = 429;
+
     /**
      * Artipie rest URL.
      */
     private final String rest;
 
+    /**
+     * Limit of in-flight upstream requests.
+     */
+    private final AdaptiveLimit limit;
+
+    /**
+     * Metrics of upstream requests.
+     */
+    private final Metrics metrics;
+
     /**
      * Ctor.
      * @param rest Artipie rest endpoint.
      */
     public BaseService(final String rest) {
+        this(rest, new AdaptiveLimit(), new Metrics());
+    }
+
+    /**
+     * Ctor.
+     * @param rest Artipie rest endpoint.
+     * @param limit Limit of in-flight upstream requests.
+     * @param metrics Metrics of upstream requests.
+     */
+    public BaseService(final String rest, final AdaptiveLimit limit, final Metrics metrics) {
         this.rest = rest;
+        this.limit = limit;
+        this.metrics = metrics;
     }
 
     /**
@@ -63,13 +98,18 @@ public class BaseService {
     }
 
     /**
-     * Gets uri to artipie rest resource.
+     * Gets uri to artipie rest resource. Rest URL and path are joined
+     * by single slash, with or without trailing and leading slashes.
      * @param path Absolute path to rest resource.
      * @return Artipie rest resource URI.
      * @throws URISyntaxException if there is syntax error.
      */
     protected URI uri(final String path) throws URISyntaxException {
-        return new URI(String.format("%s/%s", this.rest(), path));
+        return new URI(
+            String.format(
+                "%s/%s", this.rest().replaceAll("/+$", ""), path.replaceAll("^/+", "")
+            )
+        );
     }
 
     /**
@@ -83,84 +123,132 @@ public class BaseService {
 
     /**
      * Invokes GET http request.
+     * @param operation Logical operation name for metrics.
      * @param token JWT token.
      * @param path Path in URL.
      * @return Http response.
      */
-    protected HttpResponse<String> httpGet(final Optional<String> token, final String path) {
-        try {
-            return HttpClient.newBuilder()
-                .build()
-                .send(
-                    this.createGetRequest(token, path),
-                    HttpResponse.BodyHandlers.ofString()
-                );
-        } catch (final IOException | InterruptedException exc) {
-            throw new ArtipieException(exc);
-        }
+    protected HttpResponse<String> httpGet(final String operation,
+        final Optional<String> token, final String path) {
+        return this.send(operation, this.createGetRequest(token, path));
     }
 
     /**
      * Invokes POST http request.
+     * @param operation Logical operation name for metrics.
      * @param token JWT token.
      * @param path Path in URL.
      * @param payload Payload supplier.
      * @return Http response.
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    protected HttpResponse<String> httpPost(final Optional<String> token, final String path,
-        final Supplier<String> payload) {
-        try {
-            return HttpClient.newBuilder()
-                .build()
-                .send(
-                    this.createPostRequest(token, path, payload),
-                    HttpResponse.BodyHandlers.ofString()
-                );
-        } catch (final IOException | InterruptedException exc) {
-            throw new ArtipieException(exc);
-        }
+    protected HttpResponse<String> httpPost(final String operation,
+        final Optional<String> token, final String path, final Supplier<String> payload) {
+        return this.send(operation, this.createPostRequest(token, path, payload));
     }
 
     /**
      * Invokes POST http request.
+     * @param operation Logical operation name for metrics.
      * @param token JWT token.
      * @param path Path in URL.
      * @param payload Payload supplier.
      * @return Http response.
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    protected HttpResponse<String> httpPut(final Optional<String> token, final String path,
-        final Supplier<String> payload) {
-        try {
-            return HttpClient.newBuilder()
-                .build()
-                .send(
-                    this.createPutRequest(token, path, payload),
-                    HttpResponse.BodyHandlers.ofString()
-                );
-        } catch (final IOException | InterruptedException exc) {
-            throw new ArtipieException(exc);
-        }
+    protected HttpResponse<String> httpPut(final String operation,
+        final Optional<String> token, final String path, final Supplier<String> payload) {
+        return this.send(operation, this.createPutRequest(token, path, payload));
     }
 
     /**
      * Invokes DELETE http request.
+     * @param operation Logical operation name for metrics.
      * @param token JWT token.
      * @param path Path in URL.
      * @return Http response.
      */
-    protected HttpResponse<String> httpDelete(final Optional<String> token, final String path) {
+    protected HttpResponse<String> httpDelete(final String operation,
+        final Optional<String> token, final String path) {
+        return this.send(operation, this.createDeleteRequest(token, path));
+    }
+
+    /**
+     * Sends http request within limit of in-flight upstream requests
+     * and records its latency, status and response size by operation.
+     * @param operation Logical operation name for metrics.
+     * @param request Http request.
+     * @return Http response.
+     * @throws RestException with 503 status if limit is exceeded.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    protected HttpResponse<String> send(final String operation, final HttpRequest request) {
+        if (!this.limit.acquire()) {
+            this.responses(operation, "rejected").increment();
+            throw new RestException(
+                HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                "Too many concurrent requests to Artipie, try again later"
+            );
+        }
+        final UpstreamEvent event = new UpstreamEvent(operation, request.uri().getPath());
+        final Optional<Tracing.Outbound> trace = Tracing.outbound(operation);
+        final long start = System.nanoTime();
+        boolean dropped = true;
+        String status = "error";
+        long bytes = 0;
         try {
-            return HttpClient.newBuilder()
-                .build()
-                .send(
-                    this.createDeleteRequest(token, path),
-                    HttpResponse.BodyHandlers.ofString()
-                );
+            final HttpResponse<String> response = Http.CLIENT.send(
+                trace.map(
+                    call -> HttpRequest.newBuilder(request, (name, value) -> true)
+                        .header(TraceParent.HEADER, call.traceparent())
+                        .build()
+                ).orElse(request),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            status = Integer.toString(response.statusCode());
+            dropped = response.statusCode() == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                || response.statusCode() == BaseService.TOO_MANY_REQUESTS;
+            bytes = response.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH)
+                .orElseGet(() -> Utf8.length(response.body()));
+            this.metrics.counter(
+                "front_upstream_response_bytes_total", "Bytes received from Artipie",
+                "operation", operation
+            ).add(bytes);
+            return response;
+        } catch (final HttpTimeoutException exc) {
+            status = "timeout";
+            throw new ArtipieException(exc);
         } catch (final IOException | InterruptedException exc) {
             throw new ArtipieException(exc);
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            this.limit.release(elapsed, dropped);
+            this.metrics.histogram(
+                "front_upstream_request_duration_seconds",
+                "Latency of requests to Artipie by operation",
+                "operation", operation
+            ).record(elapsed);
+            this.responses(operation, status).increment();
+            event.complete(status, bytes);
+            RequestTiming.upstream(operation, request.uri().getPath(), status, elapsed);
+            final String code = status;
+            trace.ifPresent(call -> call.end(request.uri().getPath(), code));
         }
     }
 
+    /**
+     * Counter of upstream responses.
+     * @param operation Logical operation name.
+     * @param status Response status code, {@code timeout}, {@code error} or {@code rejected}.
+     * @return Counter
+     */
+    private LongAdder responses(final String operation, final String status) {
+        return this.metrics.counter(
+            "front_upstream_responses_total", "Responses from Artipie by operation and status",
+            "operation", operation, "status", status
+        );
+    }
+
     /**
      * Creates GET http request.
      * @param token JWT token.
@@ -341,4 +429,16 @@ public class BaseService {
         }
         return builder.toString();
     }
+
+    /**
+     * Http client shared by all services, it is created on the first request
+     * and keeps connections to Artipie alive between requests.
+     * @since 1.0
+     */
+    private static final class Http {
+        /**
+         * Http client.
+         */
+        private static final HttpClient CLIENT = HttpClient.newHttpClient();
+    }
 }
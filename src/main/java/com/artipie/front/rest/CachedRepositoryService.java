@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import com.artipie.ArtipieException;
+import com.artipie.front.internal.Metrics;
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.trace.Tracing;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Repository service with short-living cache of repository list and
+ * configurations by token.
+ * Concurrent requests of the same value share one upstream call, saved and
+ * removed repositories are invalidated for the token which changed them,
+ * repository editor always reads fresh configuration. {@link #warm(String)}
+ * prefetches repositories of signed in user on virtual threads, so the first
+ * dashboard page after sign in is served from cache; prefetch calls are traced
+ * as calls of the sign in request. Prefetch has its own small limit of
+ * upstream requests shared by all users, so it never takes slots of
+ * interactive requests and can't get them rejected.
+ * @since 1.0
+ */
+public final class CachedRepositoryService extends RepositoryService {
+    /**
+     * Max number of cached repository lists and configurations.
+     */
+    private static final int SIZE = 10_000;
+
+    /**
+     * Max repositories prefetched on sign in.
+     */
+    private static final int WARM_MAX = 200;
+
+    /**
+     * Max concurrent prefetch calls of all users.
+     */
+    private static final int WARM_PARALLEL = 8;
+
+    /**
+     * Repository lists by token.
+     */
+    private final Cache<String, List<String>> lists;
+
+    /**
+     * Repository configurations by token and repository name.
+     */
+    private final Cache<List<String>, String> repos;
+
+    /**
+     * Prefetch executor.
+     */
+    private final ExecutorService warmup;
+
+    /**
+     * Repository service of prefetch with its own limit of upstream requests.
+     */
+    private final RepositoryService prefetch;
+
+    /**
+     * Concurrent prefetch calls of all users.
+     */
+    private final Semaphore parallel;
+
+    /**
+     * Ctor.
+     * @param rest Artipie rest endpoint
+     * @param limit Limit of in-flight upstream requests
+     * @param metrics Metrics of upstream requests
+     * @param ttl Time to live of cached values
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CachedRepositoryService(final String rest, final AdaptiveLimit limit,
+        final Metrics metrics, final Duration ttl) {
+        super(rest, limit, metrics);
+        this.lists = CacheBuilder.newBuilder().expireAfterWrite(ttl)
+            .maximumSize(CachedRepositoryService.SIZE).build();
+        this.repos = CacheBuilder.newBuilder().expireAfterWrite(ttl)
+            .maximumSize(CachedRepositoryService.SIZE).build();
+        this.warmup = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("warm-up-", 0).factory()
+        );
+        this.prefetch = new RepositoryService(
+            rest,
+            new AdaptiveLimit(
+                CachedRepositoryService.WARM_PARALLEL, 1, CachedRepositoryService.WARM_PARALLEL
+            ),
+            metrics
+        );
+        this.parallel = new Semaphore(CachedRepositoryService.WARM_PARALLEL);
+    }
+
+    @Override
+    public List<String> list(final String token) {
+        return CachedRepositoryService.cached(
+            this.lists, token, () -> super.list(token)
+        );
+    }
+
+    /**
+     * Obtain repository content bypassing cache, it's used by repository
+     * editor to never edit stale configuration; cached value is refreshed.
+     * @param token Token.
+     * @param rname Repository name.
+     * @return Repository content.
+     */
+    @Override
+    public String repo(final String token, final RepositoryName rname) {
+        this.repos.invalidate(List.of(token, rname.toString()));
+        return this.repo(token, rname.toString());
+    }
+
+    @Override
+    public String repo(final String token, final String rname) {
+        return CachedRepositoryService.cached(
+            this.repos, List.of(token, rname), () -> super.repo(token, rname)
+        );
+    }
+
+    @Override
+    public String save(final String token, final RepositoryName rname, final String config) {
+        try {
+            return super.save(token, rname, config);
+        } finally {
+            this.invalidate(token, rname.toString());
+        }
+    }
+
+    @Override
+    public String remove(final String token, final RepositoryName rname) {
+        try {
+            return super.remove(token, rname);
+        } finally {
+            this.invalidate(token, rname.toString());
+        }
+    }
+
+    /**
+     * Prefetch repository list and configurations of the user in background.
+     * @param token Token of the user
+     */
+    public void warm(final String token) {
+        this.warmup.execute(
+            CachedRepositoryService.propagate(
+                () -> {
+                    final long start = System.nanoTime();
+                    try {
+                        final List<String> names = CachedRepositoryService.cached(
+                            this.lists, token, () -> this.prefetch.list(token)
+                        ).stream().sorted().limit(CachedRepositoryService.WARM_MAX).toList();
+                        final CountDownLatch done = new CountDownLatch(names.size());
+                        for (final String name : names) {
+                            this.parallel.acquire();
+                            this.warmup.execute(
+                                CachedRepositoryService.propagate(
+                                    () -> {
+                                        try {
+                                            CachedRepositoryService.cached(
+                                                this.repos, List.of(token, name),
+                                                () -> this.prefetch.repo(token, name)
+                                            );
+                                        } catch (final ArtipieException err) {
+                                            Logger.debug(
+                                                this, "Failed to prefetch %s: %s", name, err
+                                            );
+                                        } finally {
+                                            this.parallel.release();
+                                            done.countDown();
+                                        }
+                                    }
+                                )
+                            );
+                        }
+                        done.await();
+                        Logger.debug(
+                            this, "Prefetched %d repositories in %[nano]s",
+                            names.size(), System.nanoTime() - start
+                        );
+                    } catch (final ArtipieException err) {
+                        Logger.debug(this, "Failed to prefetch repository list: %s", err);
+                    } catch (final InterruptedException err) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            )
+        );
+    }
+
+    /**
+     * Invalidate repository list and configuration of the repository
+     * cached for the token.
+     * @param token Token which changed the repository
+     * @param rname Repository name
+     */
+    private void invalidate(final String token, final String rname) {
+        this.lists.invalidate(token);
+        this.repos.invalidate(List.of(token, rname));
+    }
+
+    /**
+     * Task in trace and timing of the request handled by current thread.
+     * @param task Task
+     * @return Task
+     */
+    private static Runnable propagate(final Runnable task) {
+        return RequestTiming.propagate(Tracing.propagate(task));
+    }
+
+    /**
+     * Cached value, concurrent loads of the same key share one call.
+     * @param cache Cache
+     * @param key Key
+     * @param load Loader
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return Value
+     */
+    private static <K, V> V cached(final Cache<K, V> cache, final K key, final Callable<V> load) {
+        try {
+            return cache.get(key, load);
+        } catch (final UncheckedExecutionException | ExecutionException err) {
+            if (err.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) err.getCause();
+            }
+            throw new IllegalStateException(err.getCause());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * JWT token issued by Artipie.
+ * Claims are decoded locally without signature verification, it's
+ * only used to know token expiry; Artipie still verifies the token.
+ * @since 1.0
+ */
+public final class JwtToken {
+    /**
+     * Token.
+     */
+    private final String token;
+
+    /**
+     * Ctor.
+     * @param token Token
+     */
+    public JwtToken(final String token) {
+        this.token = token;
+    }
+
+    /**
+     * Expiry of the token from {@code exp} claim.
+     * @return Expiry time or empty if token is not JWT or has no expiry
+     */
+    public Optional<Instant> expiry() {
+        return this.claims()
+            .map(claims -> claims.get("exp"))
+            .filter(exp -> exp != null && exp.getValueType() == JsonValue.ValueType.NUMBER)
+            .map(exp -> Instant.ofEpochSecond(((JsonNumber) exp).longValue()));
+    }
+
+    @Override
+    public String toString() {
+        return this.token;
+    }
+
+    /**
+     * Decode claims of the token.
+     * @return Claims or empty if token is not JWT
+     */
+    private Optional<JsonObject> claims() {
+        final String[] parts = this.token.split("\\.");
+        Optional<JsonObject> res = Optional.empty();
+        // @checkstyle MagicNumberCheck (1 line)
+        if (parts.length == 3) {
+            try (JsonReader reader = Json.createReader(
+                new StringReader(
+                    new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                )
+            )) {
+                res = Optional.of(reader.readObject());
+            } catch (final IllegalArgumentException | JsonException err) {
+                res = Optional.empty();
+            }
+        }
+        return res;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package com.artipie.front.rest;
 
+import com.artipie.front.internal.Metrics;
 import com.artipie.front.misc.Yaml2Json;
 import java.net.http.HttpResponse;
 import java.util.ArrayList;
@@ -39,6 +40,17 @@ public class RepositoryService extends BaseService {
         super(rest);
     }
 
+    /**
+     * Ctor.
+     *
+     * @param rest Artipie rest endpoint.
+     * @param limit Limit of in-flight upstream requests.
+     * @param metrics Metrics of upstream requests.
+     */
+    public RepositoryService(final String rest, final AdaptiveLimit limit, final Metrics metrics) {
+        super(rest, limit, metrics);
+    }
+
     /**
      * Obtain list of repository names.
      * @param token Token.
@@ -46,7 +58,7 @@ public class RepositoryService extends BaseService {
      */
     public List<String> list(final String token) {
         return BaseService.handle(
-            this.httpGet(Optional.of(token), RepositoryService.LIST_PATH),
+            this.httpGet("repo_list", Optional.of(token), RepositoryService.LIST_PATH),
             RepositoryService::listOfStrings
         );
     }
@@ -60,6 +72,7 @@ public class RepositoryService extends BaseService {
     public List<String> list(final String token, final String uname) {
         return BaseService.handle(
             this.httpGet(
+                "repo_list",
                 Optional.of(token),
                 BaseService.path(RepositoryService.LIST_PATH, uname)
             ),
@@ -86,6 +99,7 @@ public class RepositoryService extends BaseService {
     public String repo(final String token, final String rname) {
         return BaseService.handle(
             this.httpGet(
+                "repo_get",
                 Optional.of(token),
                 BaseService.path(RepositoryService.REPOSITORY_PATH, rname)
             ),
@@ -104,6 +118,7 @@ public class RepositoryService extends BaseService {
         final String config) {
         return BaseService.handle(
             this.httpPut(
+                "repo_save",
                 Optional.of(token),
                 BaseService.path(RepositoryService.REPOSITORY_PATH, rname),
                 () -> new Yaml2Json().apply(config).toString()
@@ -121,6 +136,7 @@ public class RepositoryService extends BaseService {
     public String remove(final String token, final RepositoryName rname) {
         return BaseService.handle(
             this.httpDelete(
+                "repo_remove",
                 Optional.of(token),
                 RepositoryService.path(RepositoryService.REPOSITORY_PATH, rname.toString())
             ),
@@ -4,6 +4,7 @@
  */
 package com.artipie.front.rest;
 
+import com.artipie.front.internal.Metrics;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -31,7 +32,17 @@ public class SettingsService extends BaseService {
      * @param rest Artipie rest endpoint.
      */
     public SettingsService(final String rest) {
-        super(rest);
+        this(rest, new AdaptiveLimit(), new Metrics());
+    }
+
+    /**
+     * Ctor.
+     * @param rest Artipie rest endpoint.
+     * @param limit Limit of in-flight upstream requests.
+     * @param metrics Metrics of upstream requests.
+     */
+    public SettingsService(final String rest, final AdaptiveLimit limit, final Metrics metrics) {
+        super(rest, limit, metrics);
         this.port = new AtomicReference<>();
     }
 
@@ -59,7 +70,7 @@ public class SettingsService extends BaseService {
         final Function<JsonObject, T> handler) {
         if (ref.get() == null) {
             final T value = BaseService.handle(
-                this.httpGet(Optional.empty(), path),
+                this.httpGet("settings", Optional.empty(), path),
                 res -> {
                     final JsonObject json = BaseService.jsonObject(res);
                     return handler.apply(json);
@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import com.artipie.front.internal.Metrics;
+import com.jcabi.log.Logger;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Background probe of Artipie REST API.
+ * Requests Artipie settings periodically and caches the result, so
+ * readiness check only reads the cached state. A probe fails if it gets
+ * server error or is slower than max latency. Artipie becomes reachable on
+ * the first successful probe and unreachable after a number of failed
+ * probes in a row or if the last probe is older than TTL, so a single slow
+ * response doesn't take the service out of rotation.
+ * Probes have their own limit of in-flight requests, so they are not
+ * rejected when the service is overloaded, and their timeouts don't
+ * shrink the limit of other requests to Artipie.
+ * @since 1.0
+ */
+public final class UpstreamProbe extends BaseService {
+    /**
+     * Probed path.
+     */
+    private static final String PATH = "/api/v1/settings/port";
+
+    /**
+     * Probe interval.
+     */
+    private final Duration interval;
+
+    /**
+     * Max age of probe result.
+     */
+    private final Duration ttl;
+
+    /**
+     * Max latency of reachable upstream, it's also probe timeout.
+     */
+    private final Duration latency;
+
+    /**
+     * Number of failed probes in a row to consider Artipie unreachable.
+     */
+    private final int failures;
+
+    /**
+     * Failed probes in a row.
+     */
+    private final AtomicInteger failed;
+
+    /**
+     * Probe scheduler.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Last probe result.
+     */
+    private volatile Result last;
+
+    /**
+     * Ctor.
+     * @param rest Artipie rest endpoint
+     * @param metrics Metrics of upstream requests
+     * @param interval Probe interval
+     * @param latency Max latency of reachable upstream
+     * @param failures Number of failed probes in a row to consider Artipie unreachable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public UpstreamProbe(final String rest, final Metrics metrics, final Duration interval,
+        final Duration latency, final int failures) {
+        super(rest, new AdaptiveLimit(), metrics);
+        this.interval = interval;
+        this.ttl = interval.multipliedBy(failures + 1L);
+        this.latency = latency;
+        this.failures = failures;
+        this.failed = new AtomicInteger();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "upstream-probe");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    /**
+     * Start probing.
+     */
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(
+            this::probe, 0, this.interval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Stop probing.
+     */
+    public void stop() {
+        this.scheduler.shutdownNow();
+    }
+
+    /**
+     * Artipie is reachable according to the last probe.
+     * @return True if reachable
+     */
+    public boolean reachable() {
+        final Result res = this.last;
+        return res != null && res.reachable
+            && System.nanoTime() - res.time < this.ttl.toNanos();
+    }
+
+    /**
+     * Latency of the last probe.
+     * @return Latency in seconds, zero if not probed yet
+     */
+    public double latency() {
+        return Optional.ofNullable(this.last)
+            .map(res -> (double) res.latency / TimeUnit.SECONDS.toNanos(1))
+            .orElse(0.0);
+    }
+
+    /**
+     * Probe Artipie once.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    void probe() {
+        final long start = System.nanoTime();
+        boolean reachable;
+        try {
+            final int status = this.send(
+                "probe",
+                HttpRequest.newBuilder(
+                    this.createGetRequest(Optional.empty(), UpstreamProbe.PATH),
+                    (name, value) -> true
+                ).timeout(this.latency).build()
+            ).statusCode();
+            reachable = status < HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } catch (final RuntimeException err) {
+            reachable = false;
+        }
+        final long elapsed = System.nanoTime() - start;
+        final Result prev = this.last;
+        if (reachable && elapsed <= this.latency.toNanos()) {
+            this.failed.set(0);
+        } else {
+            reachable = this.failed.incrementAndGet() < this.failures
+                && prev != null && prev.reachable;
+        }
+        if (reachable && (prev == null || !prev.reachable)) {
+            Logger.info(
+                this, "Artipie at %s is reachable, probe took %[nano]s", this.rest(), elapsed
+            );
+        } else if (!reachable && (prev == null || prev.reachable)) {
+            Logger.warn(
+                this, "Artipie at %s is unreachable after %d failed probes, last took %[nano]s",
+                this.rest(), this.failed.get(), elapsed
+            );
+        }
+        this.last = new Result(reachable, elapsed, System.nanoTime());
+    }
+
+    /**
+     * Probe result.
+     * @since 1.0
+     */
+    private static final class Result {
+        /**
+         * Artipie is reachable.
+         */
+        private final boolean reachable;
+
+        /**
+         * Probe latency in nanoseconds.
+         */
+        private final long latency;
+
+        /**
+         * Probe time in nanoseconds.
+         */
+        private final long time;
+
+        /**
+         * Ctor.
+         * @param reachable Artipie is reachable
+         * @param latency Probe latency in nanoseconds
+         * @param time Probe time in nanoseconds
+         */
+        Result(final boolean reachable, final long latency, final long time) {
+            this.reachable = reachable;
+            this.latency = latency;
+            this.time = time;
+        }
+    }
+}
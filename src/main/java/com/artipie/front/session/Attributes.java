@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * Session attributes as JSON.
+ * Attributes are strings, numbers (read back as {@link Long}) or booleans,
+ * it's enough for token, user ID and CSRF token kept in sessions.
+ * @since 1.0
+ */
+final class Attributes {
+    /**
+     * Ctor.
+     */
+    private Attributes() {
+    }
+
+    /**
+     * Attributes to JSON.
+     * @param attrs Attributes
+     * @return JSON object builder
+     * @throws IllegalArgumentException If attribute type is not supported
+     */
+    static JsonObjectBuilder json(final Map<String, Object> attrs) {
+        final JsonObjectBuilder json = Json.createObjectBuilder();
+        attrs.forEach(
+            (name, value) -> {
+                if (value instanceof String) {
+                    json.add(name, (String) value);
+                } else if (value instanceof Number) {
+                    json.add(name, ((Number) value).longValue());
+                } else if (value instanceof Boolean) {
+                    json.add(name, (Boolean) value);
+                } else {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Session attribute %s of %s can't be stored",
+                            name, value.getClass()
+                        )
+                    );
+                }
+            }
+        );
+        return json;
+    }
+
+    /**
+     * Attributes from JSON.
+     * @param json JSON object
+     * @return Attributes
+     */
+    static Map<String, Object> map(final JsonObject json) {
+        final Map<String, Object> attrs = new HashMap<>();
+        json.forEach((name, value) -> attrs.put(name, Attributes.value(value)));
+        return attrs;
+    }
+
+    /**
+     * Number field of JSON object.
+     * @param json JSON object
+     * @param name Field name
+     * @return Field value or zero if absent
+     */
+    static long number(final JsonObject json, final String name) {
+        return Optional.ofNullable(json.getJsonNumber(name)).map(JsonNumber::longValue)
+            .orElse(0L);
+    }
+
+    /**
+     * Attribute value from JSON.
+     * @param json JSON value
+     * @return Attribute value
+     */
+    private static Object value(final JsonValue json) {
+        final Object res;
+        if (json.getValueType() == JsonValue.ValueType.STRING) {
+            res = ((JsonString) json).getString();
+        } else if (json.getValueType() == JsonValue.ValueType.NUMBER) {
+            res = ((JsonNumber) json).longValue();
+        } else {
+            res = json.getValueType() == JsonValue.ValueType.TRUE;
+        }
+        return res;
+    }
+}
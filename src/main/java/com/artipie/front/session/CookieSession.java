@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionContext;
+
+/**
+ * HTTP session kept in cookie.
+ * Every change is passed to save callback to rewrite the cookie.
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@SuppressWarnings({"deprecation", "PMD.TooManyMethods"})
+final class CookieSession implements HttpSession {
+    /**
+     * Session ID.
+     */
+    private final String id;
+
+    /**
+     * Creation time in milliseconds.
+     */
+    private final long created;
+
+    /**
+     * Attributes.
+     */
+    private final Map<String, Object> attrs;
+
+    /**
+     * Session is created by current request.
+     */
+    private final boolean fresh;
+
+    /**
+     * Servlet context.
+     */
+    private final ServletContext context;
+
+    /**
+     * Save callback.
+     */
+    private final Consumer<CookieSession> save;
+
+    /**
+     * Session is invalidated.
+     */
+    private boolean invalid;
+
+    /**
+     * Ctor of new session.
+     * @param context Servlet context
+     * @param save Save callback
+     */
+    CookieSession(final ServletContext context, final Consumer<CookieSession> save) {
+        this(
+            UUID.randomUUID().toString(), System.currentTimeMillis(), new HashMap<>(), true,
+            context, save
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param id Session ID
+     * @param created Creation time in milliseconds
+     * @param attrs Attributes
+     * @param fresh Session is created by current request
+     * @param context Servlet context
+     * @param save Save callback
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private CookieSession(final String id, final long created, final Map<String, Object> attrs,
+        final boolean fresh, final ServletContext context, final Consumer<CookieSession> save) {
+        this.id = id;
+        this.created = created;
+        this.attrs = attrs;
+        this.fresh = fresh;
+        this.context = context;
+        this.save = save;
+    }
+
+    /**
+     * Read session from cookie content.
+     * @param json Cookie content
+     * @param now Current time
+     * @param context Servlet context
+     * @param save Save callback
+     * @return Session or empty if content is malformed or expired
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static Optional<CookieSession> read(final byte[] json, final Instant now,
+        final ServletContext context, final Consumer<CookieSession> save) {
+        Optional<CookieSession> res = Optional.empty();
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(json))) {
+            final JsonObject obj = reader.readObject();
+            if (now.getEpochSecond() < Attributes.number(obj, "exp")) {
+                res = Optional.of(
+                    new CookieSession(
+                        obj.getString("id", ""), Attributes.number(obj, "created"),
+                        Attributes.map(
+                            (JsonObject) obj.getOrDefault("attrs", JsonValue.EMPTY_JSON_OBJECT)
+                        ),
+                        false, context, save
+                    )
+                );
+            }
+        } catch (final JsonException | ClassCastException err) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Cookie content of the session.
+     * @param expires Expiry time of the cookie
+     * @return JSON bytes
+     */
+    byte[] json(final Instant expires) {
+        return Json.createObjectBuilder()
+            .add("id", this.id)
+            .add("created", this.created)
+            .add("exp", expires.getEpochSecond())
+            .add("attrs", Attributes.json(this.attrs))
+            .build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Session is invalidated.
+     * @return True if invalidated
+     */
+    boolean invalid() {
+        return this.invalid;
+    }
+
+    @Override
+    public long getCreationTime() {
+        return this.created;
+    }
+
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return this.context;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(final int interval) {
+        // cookie max age is configured for all sessions
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return -1;
+    }
+
+    @Override
+    public HttpSessionContext getSessionContext() {
+        return null;
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        return this.attrs.get(name);
+    }
+
+    @Override
+    public Object getValue(final String name) {
+        return this.getAttribute(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(this.attrs.keySet());
+    }
+
+    @Override
+    public String[] getValueNames() {
+        return this.attrs.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object value) {
+        if (value == null) {
+            this.removeAttribute(name);
+        } else {
+            this.attrs.put(name, value);
+            this.save.accept(this);
+        }
+    }
+
+    @Override
+    public void putValue(final String name, final Object value) {
+        this.setAttribute(name, value);
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        if (this.attrs.remove(name) != null) {
+            this.save.accept(this);
+        }
+    }
+
+    @Override
+    public void removeValue(final String name) {
+        this.removeAttribute(name);
+    }
+
+    @Override
+    public void invalidate() {
+        this.attrs.clear();
+        this.invalid = true;
+        this.save.accept(this);
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.fresh;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+/**
+ * Stateless sessions kept in encrypted and authenticated cookie.
+ * Session attributes are sealed with {@link SessionCipher} into
+ * {@code ARTIPIE_SESSION} cookie, which is rewritten on every change, so
+ * any service replica with the same secret can serve the session and
+ * nothing is kept in server memory. Spark routes and filters use
+ * sessions as before.
+ * @since 1.0
+ */
+public final class CookieSessions implements Sessions {
+    /**
+     * Cookie name.
+     */
+    public static final String COOKIE = "ARTIPIE_SESSION";
+
+    /**
+     * Max cookie size supported by browsers.
+     */
+    private static final int MAX_SIZE = 4096;
+
+    /**
+     * Session cipher.
+     */
+    private final SessionCipher cipher;
+
+    /**
+     * Max age of session cookie.
+     */
+    private final Duration age;
+
+    /**
+     * Ctor.
+     * @param secret Secret shared by all service replicas
+     * @param age Max age of session cookie
+     */
+    public CookieSessions(final String secret, final Duration age) {
+        if (secret.isEmpty()) {
+            throw new IllegalArgumentException("Secret of cookie sessions is empty");
+        }
+        this.cipher = new SessionCipher(secret);
+        this.age = age;
+    }
+
+    @Override
+    public Handler handler(final Server server, final Handler spark) {
+        final HandlerWrapper res = new CookieHandler(this);
+        res.setHandler(spark);
+        return res;
+    }
+
+    /**
+     * Read session from request cookie.
+     * @param request Request
+     * @param response Response
+     * @return Session or empty if there is no valid session cookie
+     */
+    private Optional<CookieSession> read(final HttpServletRequest request,
+        final HttpServletResponse response) {
+        return Optional.ofNullable(request.getCookies())
+            .flatMap(
+                cookies -> Arrays.stream(cookies)
+                    .filter(cookie -> CookieSessions.COOKIE.equals(cookie.getName()))
+                    .map(Cookie::getValue)
+                    .findFirst()
+            )
+            .flatMap(this.cipher::open)
+            .flatMap(
+                json -> CookieSession.read(
+                    json, Instant.now(), request.getServletContext(),
+                    session -> this.write(request, response, session)
+                )
+            );
+    }
+
+    /**
+     * Write session cookie to response.
+     * @param request Request
+     * @param response Response
+     * @param session Session
+     */
+    private void write(final HttpServletRequest request, final HttpServletResponse response,
+        final CookieSession session) {
+        final String value;
+        final long age;
+        if (session.invalid()) {
+            value = "";
+            age = 0;
+        } else {
+            value = this.cipher.seal(session.json(Instant.now().plus(this.age)));
+            age = this.age.getSeconds();
+        }
+        if (value.length() > CookieSessions.MAX_SIZE) {
+            Logger.warn(
+                this, "Session cookie of %d bytes may be rejected by browser", value.length()
+            );
+        }
+        final StringBuilder header = new StringBuilder()
+            .append(CookieSessions.COOKIE).append('=').append(value)
+            .append("; Max-Age=").append(age)
+            .append("; Path=/; HttpOnly; SameSite=Lax");
+        if (request.isSecure()) {
+            header.append("; Secure");
+        }
+        response.setHeader("Set-Cookie", header.toString());
+    }
+
+    /**
+     * Handler which provides cookie sessions to wrapped handler.
+     * @since 1.0
+     */
+    private static final class CookieHandler extends HandlerWrapper {
+        /**
+         * Cookie sessions.
+         */
+        private final CookieSessions sessions;
+
+        /**
+         * Ctor.
+         * @param sessions Cookie sessions
+         */
+        CookieHandler(final CookieSessions sessions) {
+            super();
+            this.sessions = sessions;
+        }
+
+        @Override
+        public void handle(final String target, final Request base,
+            final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException, ServletException {
+            super.handle(
+                target, base, new SessionRequest(this.sessions, request, response), response
+            );
+        }
+    }
+
+    /**
+     * Request with cookie session.
+     * @since 1.0
+     */
+    private static final class SessionRequest extends HttpServletRequestWrapper {
+        /**
+         * Cookie sessions.
+         */
+        private final CookieSessions sessions;
+
+        /**
+         * Response.
+         */
+        private final HttpServletResponse response;
+
+        /**
+         * Session cookie is read.
+         */
+        private boolean loaded;
+
+        /**
+         * Session or null if there is no session.
+         */
+        private CookieSession session;
+
+        /**
+         * Ctor.
+         * @param sessions Cookie sessions
+         * @param request Request
+         * @param response Response
+         */
+        SessionRequest(final CookieSessions sessions, final HttpServletRequest request,
+            final HttpServletResponse response) {
+            super(request);
+            this.sessions = sessions;
+            this.response = response;
+        }
+
+        @Override
+        public HttpSession getSession(final boolean create) {
+            if (!this.loaded) {
+                this.session = this.sessions.read(this, this.response).orElse(null);
+                this.loaded = true;
+            }
+            if (this.session != null && this.session.invalid()) {
+                this.session = null;
+            }
+            if (this.session == null && create) {
+                this.session = new CookieSession(
+                    this.getServletContext(),
+                    created -> this.sessions.write(this, this.response, created)
+                );
+            }
+            return this.session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return this.getSession(true);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory session store.
+ * Keeps at most max sessions, evicting least recently used one when
+ * it's full, and evicts sessions idle for longer than idle time,
+ * so memory stays flat under sign in storms.
+ * @since 1.0
+ */
+public final class MemoryStore implements SessionStore {
+    /**
+     * Sessions in access order.
+     */
+    private final Map<String, Entry> sessions;
+
+    /**
+     * Max number of sessions.
+     */
+    private final int max;
+
+    /**
+     * Max idle time in nanoseconds.
+     */
+    private final long idle;
+
+    /**
+     * Evicted sessions.
+     */
+    private final LongAdder evicted;
+
+    /**
+     * Ctor.
+     * @param max Max number of sessions
+     * @param idle Max idle time
+     */
+    public MemoryStore(final int max, final Duration idle) {
+        this.max = max;
+        this.idle = idle.toNanos();
+        this.evicted = new LongAdder();
+        // @checkstyle MagicNumberCheck (1 line)
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public Optional<byte[]> load(final String id) {
+        synchronized (this.sessions) {
+            final Entry entry = this.sessions.get(id);
+            Optional<byte[]> res = Optional.empty();
+            if (entry != null && this.idle(entry, System.nanoTime())) {
+                this.sessions.remove(id);
+                this.evicted.increment();
+            } else if (entry != null) {
+                entry.touched = System.nanoTime();
+                res = Optional.of(entry.data);
+            }
+            return res;
+        }
+    }
+
+    @Override
+    public void save(final String id, final byte[] data, final long expiry) {
+        synchronized (this.sessions) {
+            this.sessions.put(id, new Entry(data, expiry));
+            final var iter = this.sessions.values().iterator();
+            while (this.sessions.size() > this.max && iter.hasNext()) {
+                iter.next();
+                iter.remove();
+                this.evicted.increment();
+            }
+        }
+    }
+
+    @Override
+    public void delete(final String id) {
+        synchronized (this.sessions) {
+            this.sessions.remove(id);
+        }
+    }
+
+    @Override
+    public Collection<String> expired(final long now) {
+        synchronized (this.sessions) {
+            final long time = System.nanoTime();
+            final Collection<String> res = new ArrayList<>(0);
+            final var iter = this.sessions.entrySet().iterator();
+            while (iter.hasNext()) {
+                final Map.Entry<String, Entry> next = iter.next();
+                if (this.idle(next.getValue(), time)) {
+                    iter.remove();
+                    this.evicted.increment();
+                    res.add(next.getKey());
+                } else if (next.getValue().expiry > 0 && next.getValue().expiry <= now) {
+                    res.add(next.getKey());
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Number of sessions.
+     * @return Number of sessions
+     */
+    public int size() {
+        synchronized (this.sessions) {
+            return this.sessions.size();
+        }
+    }
+
+    /**
+     * Number of evicted sessions.
+     * @return Evicted sessions
+     */
+    public long evicted() {
+        return this.evicted.sum();
+    }
+
+    /**
+     * Session is idle for longer than idle time.
+     * @param entry Session entry
+     * @param now Current time in nanoseconds
+     * @return True if idle
+     */
+    private boolean idle(final Entry entry, final long now) {
+        return now - entry.touched >= this.idle;
+    }
+
+    /**
+     * Stored session.
+     * @since 1.0
+     */
+    private static final class Entry {
+        /**
+         * Session data.
+         */
+        private final byte[] data;
+
+        /**
+         * Expiry time in epoch milliseconds.
+         */
+        private final long expiry;
+
+        /**
+         * Last access time in nanoseconds.
+         */
+        private long touched;
+
+        /**
+         * Ctor.
+         * @param data Session data
+         * @param expiry Expiry time in epoch milliseconds
+         */
+        Entry(final byte[] data, final long expiry) {
+            this.data = data;
+            this.expiry = expiry;
+            this.touched = System.nanoTime();
+        }
+    }
+}
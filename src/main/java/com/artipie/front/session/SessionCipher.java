@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Authenticated encryption of session cookie with AES-GCM.
+ * Sealed value is URL-safe base64 of random IV followed by cipher text
+ * and authentication tag; the key is SHA-256 of the secret.
+ * @since 1.0
+ */
+final class SessionCipher {
+    /**
+     * Cipher transformation.
+     */
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+
+    /**
+     * IV length in bytes.
+     */
+    private static final int IV = 12;
+
+    /**
+     * Authentication tag length in bits.
+     */
+    private static final int TAG = 128;
+
+    /**
+     * Encryption key.
+     */
+    private final SecretKeySpec key;
+
+    /**
+     * Random IV source.
+     */
+    private final SecureRandom random;
+
+    /**
+     * Ctor.
+     * @param secret Secret shared by all service replicas
+     */
+    SessionCipher(final String secret) {
+        try {
+            this.key = new SecretKeySpec(
+                MessageDigest.getInstance("SHA-256")
+                    .digest(secret.getBytes(StandardCharsets.UTF_8)),
+                "AES"
+            );
+        } catch (final NoSuchAlgorithmException err) {
+            throw new IllegalStateException(err);
+        }
+        this.random = new SecureRandom();
+    }
+
+    /**
+     * Encrypt and sign value.
+     * @param plain Plain value
+     * @return Sealed value
+     */
+    String seal(final byte[] plain) {
+        final byte[] iv = new byte[SessionCipher.IV];
+        this.random.nextBytes(iv);
+        try {
+            final Cipher cipher = Cipher.getInstance(SessionCipher.ALGORITHM);
+            cipher.init(
+                Cipher.ENCRYPT_MODE, this.key, new GCMParameterSpec(SessionCipher.TAG, iv)
+            );
+            final byte[] sealed = cipher.doFinal(plain);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array()
+            );
+        } catch (final GeneralSecurityException err) {
+            throw new IllegalStateException(err);
+        }
+    }
+
+    /**
+     * Verify and decrypt sealed value.
+     * @param sealed Sealed value
+     * @return Plain value or empty if it's malformed or was changed
+     */
+    Optional<byte[]> open(final String sealed) {
+        Optional<byte[]> res = Optional.empty();
+        try {
+            final byte[] bytes = Base64.getUrlDecoder().decode(sealed);
+            if (bytes.length > SessionCipher.IV) {
+                final Cipher cipher = Cipher.getInstance(SessionCipher.ALGORITHM);
+                cipher.init(
+                    Cipher.DECRYPT_MODE, this.key,
+                    new GCMParameterSpec(SessionCipher.TAG, bytes, 0, SessionCipher.IV)
+                );
+                res = Optional.of(
+                    cipher.doFinal(bytes, SessionCipher.IV, bytes.length - SessionCipher.IV)
+                );
+            }
+        } catch (final IllegalArgumentException | GeneralSecurityException err) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import spark.embeddedserver.jetty.JettyServerFactory;
+
+/**
+ * Jetty server factory of Spark with configurable session storage.
+ * Creates servers as Spark does and passes Spark handler through
+ * {@link Sessions} when Spark sets it.
+ * @since 1.0
+ */
+public final class SessionJettyFactory implements JettyServerFactory {
+    /**
+     * Default min threads, as in Spark.
+     */
+    private static final int MIN_THREADS = 8;
+
+    /**
+     * Default thread idle timeout, as in Spark.
+     */
+    private static final int IDLE = 60_000;
+
+    /**
+     * Session storage.
+     */
+    private final Sessions sessions;
+
+    /**
+     * Ctor.
+     * @param sessions Session storage
+     */
+    public SessionJettyFactory(final Sessions sessions) {
+        this.sessions = sessions;
+    }
+
+    /**
+     * Server thread pool as Spark creates it, with default min threads
+     * and idle timeout.
+     * @param max Max threads
+     * @return Thread pool
+     */
+    public static QueuedThreadPool pool(final int max) {
+        return new QueuedThreadPool(
+            max, SessionJettyFactory.MIN_THREADS, SessionJettyFactory.IDLE
+        );
+    }
+
+    @Override
+    public Server create(final int max, final int min, final int timeout) {
+        final Server server;
+        if (max > 0) {
+            int threads = SessionJettyFactory.MIN_THREADS;
+            if (min > 0) {
+                threads = min;
+            }
+            int idle = SessionJettyFactory.IDLE;
+            if (timeout > 0) {
+                idle = timeout;
+            }
+            server = new SessionServer(this.sessions, new QueuedThreadPool(max, threads, idle));
+        } else {
+            server = new SessionServer(this.sessions, new QueuedThreadPool());
+        }
+        return server;
+    }
+
+    @Override
+    public Server create(final ThreadPool pool) {
+        return new SessionServer(this.sessions, pool);
+    }
+
+    /**
+     * Jetty server which sets up sessions for its handler.
+     * @since 1.0
+     */
+    private static final class SessionServer extends Server {
+        /**
+         * Session storage.
+         */
+        private final Sessions sessions;
+
+        /**
+         * Ctor.
+         * @param sessions Session storage
+         * @param pool Thread pool
+         */
+        SessionServer(final Sessions sessions, final ThreadPool pool) {
+            super(pool);
+            this.sessions = sessions;
+        }
+
+        @Override
+        public void setHandler(final Handler handler) {
+            super.setHandler(this.sessions.handler(this, handler));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Storage of serialized sessions by session ID.
+ * @since 1.0
+ */
+public interface SessionStore {
+    /**
+     * Load session.
+     * @param id Session ID
+     * @return Session data or empty if there is no such session
+     */
+    Optional<byte[]> load(String id);
+
+    /**
+     * Save session.
+     * @param id Session ID
+     * @param data Session data
+     * @param expiry Expiry time in epoch milliseconds, not positive if it never expires
+     */
+    void save(String id, byte[] data, long expiry);
+
+    /**
+     * Delete session.
+     * @param id Session ID
+     */
+    void delete(String id);
+
+    /**
+     * IDs of sessions expired at the time, found without loading sessions.
+     * @param now Time in epoch milliseconds
+     * @return Session IDs
+     */
+    Collection<String> expired(long now);
+}
@@ -0,0 +1,28 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+
+/**
+ * Session storage mode of embedded Jetty server.
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Sessions {
+    /**
+     * Default Jetty in-memory sessions.
+     */
+    Sessions JETTY = (server, spark) -> spark;
+
+    /**
+     * Set up session storage of the server.
+     * @param server Jetty server
+     * @param spark Spark request handler
+     * @return Handler to serve requests, Spark handler or its wrapper
+     */
+    Handler handler(Server server, Handler spark);
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.blocking.BlockingStorage;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Session store persisted in Artipie storage.
+ * Every session is kept in {@code sessions/<id>/<expiry>} key encrypted
+ * and authenticated with AES-GCM by the secret, so sessions survive service
+ * restarts and Artipie tokens are not readable in the storage; with file
+ * storage it doesn't need any external service. Expiry time in the key lets
+ * to find expired sessions by listing keys without reading sessions.
+ * @since 1.0
+ */
+public final class StorageStore implements SessionStore {
+    /**
+     * Root key of sessions.
+     */
+    private static final Key ROOT = new Key.From("sessions");
+
+    /**
+     * Number of parts in session key.
+     */
+    private static final int PARTS = 3;
+
+    /**
+     * Storage.
+     */
+    private final BlockingStorage storage;
+
+    /**
+     * Session cipher.
+     */
+    private final SessionCipher cipher;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param secret Secret to encrypt sessions
+     */
+    public StorageStore(final Storage storage, final String secret) {
+        if (secret.isEmpty()) {
+            throw new IllegalArgumentException("Secret of storage sessions is empty");
+        }
+        this.storage = new BlockingStorage(storage);
+        this.cipher = new SessionCipher(secret);
+    }
+
+    @Override
+    public Optional<byte[]> load(final String id) {
+        return this.keys(id).stream()
+            .max(Comparator.comparingLong(StorageStore::expiry))
+            .flatMap(
+                key -> this.cipher.open(
+                    new String(this.storage.value(key), StandardCharsets.US_ASCII)
+                )
+            );
+    }
+
+    @Override
+    public void save(final String id, final byte[] data, final long expiry) {
+        final List<Key> old = this.keys(id);
+        final Key key = new Key.From(StorageStore.ROOT, id, Long.toString(expiry));
+        this.storage.save(
+            key, this.cipher.seal(data).getBytes(StandardCharsets.US_ASCII)
+        );
+        for (final Key prev : old) {
+            if (!prev.equals(key)) {
+                this.storage.delete(prev);
+            }
+        }
+    }
+
+    @Override
+    public void delete(final String id) {
+        for (final Key key : this.keys(id)) {
+            this.storage.delete(key);
+        }
+    }
+
+    @Override
+    public Collection<String> expired(final long now) {
+        return this.storage.list(StorageStore.ROOT).stream()
+            .filter(key -> StorageStore.expiry(key) > 0 && StorageStore.expiry(key) <= now)
+            .map(key -> key.parts().get(1))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Storage keys of session.
+     * @param id Session ID
+     * @return Keys
+     */
+    private List<Key> keys(final String id) {
+        return this.storage.list(new Key.From(StorageStore.ROOT, id)).stream()
+            .filter(
+                key -> key.parts().size() == StorageStore.PARTS
+                    && key.parts().get(1).equals(id)
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Session expiry from storage key.
+     * @param key Storage key
+     * @return Expiry time in epoch milliseconds, zero if it never expires
+     */
+    private static long expiry(final Key key) {
+        final List<String> parts = key.parts();
+        long res = 0;
+        if (parts.size() == StorageStore.PARTS) {
+            try {
+                res = Long.parseLong(parts.get(2));
+            } catch (final NumberFormatException err) {
+                res = 0;
+            }
+        }
+        return res;
+    }
+}
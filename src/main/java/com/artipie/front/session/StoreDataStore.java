@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import org.eclipse.jetty.server.session.AbstractSessionDataStore;
+import org.eclipse.jetty.server.session.SessionData;
+
+/**
+ * Jetty session data store backed by {@link SessionStore}.
+ * Session data is serialized as JSON with attributes encoded by
+ * {@link Attributes}. Last save time is kept too, so an unchanged session
+ * is written at most once per save period, not on every request.
+ * Expired sessions are found by the store without loading them.
+ * @since 1.0
+ */
+final class StoreDataStore extends AbstractSessionDataStore {
+    /**
+     * Session store.
+     */
+    private final SessionStore store;
+
+    /**
+     * Ctor.
+     * @param store Session store
+     */
+    StoreDataStore(final SessionStore store) {
+        super();
+        this.store = store;
+    }
+
+    @Override
+    public void doStore(final String id, final SessionData data, final long last) {
+        this.store.save(
+            id,
+            Json.createObjectBuilder()
+                .add("created", data.getCreated())
+                .add("accessed", data.getAccessed())
+                .add("last", data.getLastAccessed())
+                .add("max", data.getMaxInactiveMs())
+                .add("expiry", data.getExpiry())
+                .add("saved", data.getLastSaved())
+                .add("attrs", Attributes.json(data.getAllAttributes()))
+                .build().toString().getBytes(StandardCharsets.UTF_8),
+            data.getExpiry()
+        );
+    }
+
+    @Override
+    public SessionData doLoad(final String id) {
+        return this.store.load(id).map(bytes -> this.data(id, bytes)).orElse(null);
+    }
+
+    @Override
+    public Set<String> doGetExpired(final Set<String> candidates) {
+        final long now = System.currentTimeMillis();
+        final Set<String> res = new HashSet<>(this.store.expired(now));
+        for (final String id : candidates) {
+            if (!res.contains(id)) {
+                final SessionData data = this.doLoad(id);
+                if (data == null || data.isExpiredAt(now)) {
+                    res.add(id);
+                }
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public boolean isPassivating() {
+        return true;
+    }
+
+    @Override
+    public boolean exists(final String id) {
+        final SessionData data = this.doLoad(id);
+        return data != null && !data.isExpiredAt(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean delete(final String id) {
+        this.store.delete(id);
+        return true;
+    }
+
+    /**
+     * Session data from JSON.
+     * @param id Session ID
+     * @param bytes JSON bytes
+     * @return Session data
+     */
+    private SessionData data(final String id, final byte[] bytes) {
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(bytes))) {
+            final JsonObject json = reader.readObject();
+            final SessionData data = this.newSessionData(
+                id, Attributes.number(json, "created"), Attributes.number(json, "accessed"),
+                Attributes.number(json, "last"), Attributes.number(json, "max")
+            );
+            data.setExpiry(Attributes.number(json, "expiry"));
+            data.setLastSaved(Attributes.number(json, "saved"));
+            data.putAllAttributes(
+                Attributes.map(
+                    (JsonObject) json.getOrDefault("attrs", JsonValue.EMPTY_JSON_OBJECT)
+                )
+            );
+            return data;
+        }
+    }
+}
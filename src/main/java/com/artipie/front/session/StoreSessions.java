@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.time.Duration;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.session.AbstractSessionDataStore;
+import org.eclipse.jetty.server.session.NullSessionCacheFactory;
+import org.eclipse.jetty.server.session.SessionDataStoreFactory;
+import org.eclipse.jetty.server.session.SessionHandler;
+
+/**
+ * Jetty sessions kept in {@link SessionStore}.
+ * Jetty doesn't cache sessions, every request loads its session from
+ * the store, so the store alone defines session memory and persistence,
+ * and any replica sharing the store sees session changes at once. The cost
+ * is a store read per request, for {@link StorageStore} it's listing and
+ * reading one small file and decrypting it; session access time is written
+ * at most once per save period.
+ * @since 1.0
+ */
+public final class StoreSessions implements Sessions {
+    /**
+     * Min period between writes of unchanged session.
+     */
+    private static final int SAVE_PERIOD = 60;
+
+    /**
+     * Session store.
+     */
+    private final SessionStore store;
+
+    /**
+     * Max idle time of session.
+     */
+    private final Duration idle;
+
+    /**
+     * Ctor.
+     * @param store Session store
+     * @param idle Max idle time of session
+     */
+    public StoreSessions(final SessionStore store, final Duration idle) {
+        this.store = store;
+        this.idle = idle;
+    }
+
+    @Override
+    public Handler handler(final Server server, final Handler spark) {
+        server.addBean(new NullSessionCacheFactory());
+        server.addBean(
+            (SessionDataStoreFactory) handler -> {
+                final AbstractSessionDataStore res = new StoreDataStore(this.store);
+                res.setSavePeriodSec(StoreSessions.SAVE_PERIOD);
+                return res;
+            }
+        );
+        if (spark instanceof SessionHandler) {
+            ((SessionHandler) spark).setMaxInactiveInterval((int) this.idle.getSeconds());
+        }
+        return spark;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+import com.jcabi.log.Logger;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Exporter writing spans to file as JSON lines, intended for local testing.
+ * @since 1.0
+ */
+public final class FileSpanExporter implements SpanExporter {
+    /**
+     * Output.
+     */
+    private final BufferedWriter out;
+
+    /**
+     * Ctor.
+     * @param file File to append spans to
+     */
+    public FileSpanExporter(final Path file) {
+        try {
+            this.out = Files.newBufferedWriter(
+                file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND
+            );
+        } catch (final IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    @Override
+    public void export(final Span span) {
+        final String line = span.json().toString();
+        synchronized (this.out) {
+            try {
+                this.out.write(line);
+                this.out.newLine();
+                this.out.flush();
+            } catch (final IOException err) {
+                Logger.warn(this, "failed to export span: %[exception]s", err);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * Completed span.
+ * @since 1.0
+ */
+public final class Span {
+    /**
+     * Span name.
+     */
+    private final String name;
+
+    /**
+     * Span kind, {@code server}, {@code internal} or {@code client}.
+     */
+    private final String kind;
+
+    /**
+     * Trace parent of the span.
+     */
+    private final TraceParent context;
+
+    /**
+     * Parent span ID or empty string for root span.
+     */
+    private final String parent;
+
+    /**
+     * Start time.
+     */
+    private final Instant start;
+
+    /**
+     * Duration in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * Span attributes.
+     */
+    private final Map<String, String> attrs;
+
+    /**
+     * Ctor.
+     * @param name Span name
+     * @param kind Span kind, {@code server}, {@code internal} or {@code client}
+     * @param context Trace parent of the span
+     * @param parent Parent span ID or empty string for root span
+     * @param start Start time
+     * @param duration Duration in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Span(final String name, final String kind, final TraceParent context,
+        final String parent, final Instant start, final long duration) {
+        this.name = name;
+        this.kind = kind;
+        this.context = context;
+        this.parent = parent;
+        this.start = start;
+        this.duration = duration;
+        this.attrs = new LinkedHashMap<>();
+    }
+
+    /**
+     * Add attribute.
+     * @param key Attribute name
+     * @param value Attribute value
+     * @return Self
+     */
+    public Span with(final String key, final String value) {
+        if (value != null) {
+            this.attrs.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Trace parent of the span.
+     * @return Trace parent
+     */
+    public TraceParent context() {
+        return this.context;
+    }
+
+    /**
+     * Span attributes.
+     * @return Attributes
+     */
+    public Map<String, String> attributes() {
+        return Collections.unmodifiableMap(this.attrs);
+    }
+
+    /**
+     * Span as JSON.
+     * @return JSON object
+     */
+    public JsonObject json() {
+        final JsonObjectBuilder attributes = Json.createObjectBuilder();
+        this.attrs.forEach(attributes::add);
+        return Json.createObjectBuilder()
+            .add("trace_id", this.context.traceId())
+            .add("span_id", this.context.spanId())
+            .add("parent_id", this.parent)
+            .add("name", this.name)
+            .add("kind", this.kind)
+            .add("start", this.start.toString())
+            .add("duration_us", this.duration / 1000)
+            .add("attributes", attributes)
+            .build();
+    }
+}
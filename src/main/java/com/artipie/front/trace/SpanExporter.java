@@ -0,0 +1,23 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+/**
+ * Exporter of completed spans.
+ * Exporter is called by request threads, so it should not block.
+ * @since 1.0
+ */
+public interface SpanExporter {
+    /**
+     * Exporter which drops all spans.
+     */
+    SpanExporter NONE = span -> { };
+
+    /**
+     * Export span.
+     * @param span Completed span
+     */
+    void export(Span span);
+}
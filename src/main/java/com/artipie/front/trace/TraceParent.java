@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * W3C trace context {@code traceparent}.
+ * See <a href="https://www.w3.org/TR/trace-context/#traceparent-header">specification</a>.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+public final class TraceParent {
+    /**
+     * Header name.
+     */
+    public static final String HEADER = "traceparent";
+
+    /**
+     * Header value pattern, version {@code ff} is invalid.
+     */
+    private static final Pattern PTN = Pattern.compile(
+        "(?!ff)([0-9a-f]{2})-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})(-.*)?"
+    );
+
+    /**
+     * Invalid all-zero trace ID.
+     */
+    private static final String ZERO_TRACE = "0".repeat(32);
+
+    /**
+     * Invalid all-zero span ID.
+     */
+    private static final String ZERO_SPAN = "0".repeat(16);
+
+    /**
+     * Sampled flag.
+     */
+    private static final int SAMPLED = 1;
+
+    /**
+     * Trace ID.
+     */
+    private final String trace;
+
+    /**
+     * Span ID.
+     */
+    private final String span;
+
+    /**
+     * Trace flags.
+     */
+    private final int flags;
+
+    /**
+     * Ctor.
+     * @param trace Trace ID
+     * @param span Span ID
+     * @param flags Trace flags
+     */
+    private TraceParent(final String trace, final String span, final int flags) {
+        this.trace = trace;
+        this.span = span;
+        this.flags = flags;
+    }
+
+    /**
+     * Parse header value.
+     * @param header Header value
+     * @return Trace parent or empty if header is missing or invalid
+     */
+    public static Optional<TraceParent> parse(final String header) {
+        Optional<TraceParent> res = Optional.empty();
+        if (header != null) {
+            final Matcher mtr = TraceParent.PTN.matcher(header.trim());
+            if (mtr.matches() && !TraceParent.ZERO_TRACE.equals(mtr.group(2))
+                && !TraceParent.ZERO_SPAN.equals(mtr.group(3))
+                && (mtr.group(5) == null || !"00".equals(mtr.group(1)))) {
+                res = Optional.of(
+                    new TraceParent(
+                        mtr.group(2), mtr.group(3), Integer.parseInt(mtr.group(4), 16)
+                    )
+                );
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Start new sampled trace.
+     * @return Trace parent of new root span
+     */
+    public static TraceParent generate() {
+        return new TraceParent(
+            TraceParent.random(32), TraceParent.random(16), TraceParent.SAMPLED
+        );
+    }
+
+    /**
+     * Trace parent of child span in the same trace.
+     * @return Trace parent
+     */
+    public TraceParent child() {
+        return new TraceParent(this.trace, TraceParent.random(16), this.flags);
+    }
+
+    /**
+     * Trace ID.
+     * @return Trace ID, 32 hex chars
+     */
+    public String traceId() {
+        return this.trace;
+    }
+
+    /**
+     * Span ID.
+     * @return Span ID, 16 hex chars
+     */
+    public String spanId() {
+        return this.span;
+    }
+
+    /**
+     * Trace is sampled, i.e. its spans should be exported.
+     * @return True if sampled
+     */
+    public boolean sampled() {
+        return (this.flags & TraceParent.SAMPLED) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("00-%s-%s-%02x", this.trace, this.span, this.flags);
+    }
+
+    /**
+     * Random non-zero hex ID.
+     * @param length Number of hex chars
+     * @return ID
+     */
+    private static String random(final int length) {
+        final StringBuilder res = new StringBuilder(length);
+        final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        while (res.length() < length) {
+            res.append(Character.forDigit(rnd.nextInt(16), 16));
+        }
+        if (res.chars().allMatch(chr -> chr == '0')) {
+            res.setCharAt(length - 1, '1');
+        }
+        return res.toString();
+    }
+}
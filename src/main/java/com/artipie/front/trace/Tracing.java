@@ -0,0 +1,275 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+import com.artipie.front.RequestAttr;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import spark.Filter;
+
+/**
+ * Trace context of inbound requests.
+ * Accepts {@code traceparent} header of inbound request or starts new trace,
+ * keeps trace parent of the server span in {@link RequestAttr.Standard#TRACE_PARENT}
+ * request attribute and in thread local for outbound calls made by the same thread.
+ * Tasks which the request runs on other threads should be wrapped with
+ * {@link #propagate(Callable)}, background tasks outside of requests are traced
+ * with {@link #background(String, Runnable)}.
+ * Server, internal and client spans are exported when request, task or call
+ * is completed.
+ * @since 1.0
+ */
+public final class Tracing {
+    /**
+     * Scope of the request handled by current thread.
+     */
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Span exporter.
+     */
+    private final SpanExporter exporter;
+
+    /**
+     * Ctor.
+     * @param exporter Span exporter
+     */
+    public Tracing(final SpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * Filter to start server span, should be registered as before-filter.
+     * @return Before filter
+     */
+    public Filter start() {
+        return (req, rsp) -> {
+            final Optional<TraceParent> inbound = TraceParent.parse(
+                req.headers(TraceParent.HEADER)
+            );
+            final Scope scope = new Scope(
+                this.exporter,
+                inbound.map(TraceParent::child).orElseGet(TraceParent::generate),
+                inbound.map(TraceParent::spanId).orElse("")
+            );
+            RequestAttr.Standard.TRACE_PARENT.write(req, scope.context.toString());
+            Tracing.CURRENT.set(scope);
+        };
+    }
+
+    /**
+     * Filter to export server span, should be registered as after-after filter.
+     * @return After-after filter
+     */
+    public Filter finish() {
+        return (req, rsp) -> {
+            final Scope scope = Tracing.CURRENT.get();
+            Tracing.CURRENT.remove();
+            if (scope != null && scope.context.sampled()) {
+                this.exporter.export(
+                    new Span(
+                        String.format("%s %s", req.requestMethod(), req.pathInfo()),
+                        "server", scope.context, scope.parent, scope.start,
+                        System.nanoTime() - scope.nanos
+                    ).with("http.method", req.requestMethod())
+                        .with("http.target", req.pathInfo())
+                        .with("http.status_code", Integer.toString(rsp.status()))
+                        .with("enduser.id", RequestAttr.Standard.USER_ID.read(req).orElse(null))
+                );
+            }
+        };
+    }
+
+    /**
+     * Task which runs in new trace of internal span, so outbound calls of
+     * background task outside of requests are traced too.
+     * @param name Span name
+     * @param task Task
+     * @return Traced task
+     */
+    public Runnable background(final String name, final Runnable task) {
+        return () -> {
+            final Scope prev = Tracing.CURRENT.get();
+            final Scope scope = new Scope(this.exporter, TraceParent.generate(), "");
+            Tracing.CURRENT.set(scope);
+            try {
+                task.run();
+            } finally {
+                Tracing.CURRENT.set(prev);
+                if (scope.context.sampled()) {
+                    this.exporter.export(
+                        new Span(
+                            name, "internal", scope.context, scope.parent, scope.start,
+                            System.nanoTime() - scope.nanos
+                        )
+                    );
+                }
+            }
+        };
+    }
+
+    /**
+     * Task which traces its outbound calls as calls of the request handled by
+     * current thread, wherever the task runs.
+     * @param task Task
+     * @param <T> Result type
+     * @return Task in trace of current request
+     */
+    public static <T> Callable<T> propagate(final Callable<T> task) {
+        final Scope scope = Tracing.CURRENT.get();
+        return () -> {
+            final Scope prev = Tracing.CURRENT.get();
+            Tracing.CURRENT.set(scope);
+            try {
+                return task.call();
+            } finally {
+                Tracing.CURRENT.set(prev);
+            }
+        };
+    }
+
+    /**
+     * Task which traces its outbound calls as calls of the request handled by
+     * current thread, wherever the task runs.
+     * @param task Task
+     * @return Task in trace of current request
+     */
+    public static Runnable propagate(final Runnable task) {
+        final Scope scope = Tracing.CURRENT.get();
+        return () -> {
+            final Scope prev = Tracing.CURRENT.get();
+            Tracing.CURRENT.set(scope);
+            try {
+                task.run();
+            } finally {
+                Tracing.CURRENT.set(prev);
+            }
+        };
+    }
+
+    /**
+     * Start client span of outbound call made by current thread.
+     * @param operation Logical operation name
+     * @return Outbound call or empty if current thread doesn't handle traced request
+     */
+    public static Optional<Outbound> outbound(final String operation) {
+        return Optional.ofNullable(Tracing.CURRENT.get())
+            .map(scope -> new Outbound(scope, operation));
+    }
+
+    /**
+     * Outbound call in the trace.
+     * @since 1.0
+     */
+    public static final class Outbound {
+        /**
+         * Scope of the request.
+         */
+        private final Scope scope;
+
+        /**
+         * Logical operation name.
+         */
+        private final String operation;
+
+        /**
+         * Trace parent of client span.
+         */
+        private final TraceParent context;
+
+        /**
+         * Start time.
+         */
+        private final Instant start;
+
+        /**
+         * Start time in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * Ctor.
+         * @param scope Scope of the request
+         * @param operation Logical operation name
+         */
+        private Outbound(final Scope scope, final String operation) {
+            this.scope = scope;
+            this.operation = operation;
+            this.context = scope.context.child();
+            this.start = Instant.now();
+            this.nanos = System.nanoTime();
+        }
+
+        /**
+         * Header value to propagate trace to the callee.
+         * @return Traceparent header value
+         */
+        public String traceparent() {
+            return this.context.toString();
+        }
+
+        /**
+         * Complete the call and export client span.
+         * @param path Request URI path
+         * @param status Response status
+         */
+        public void end(final String path, final String status) {
+            if (this.context.sampled()) {
+                this.scope.exporter.export(
+                    new Span(
+                        this.operation, "client", this.context,
+                        this.scope.context.spanId(), this.start, System.nanoTime() - this.nanos
+                    ).with("http.target", path).with("http.status_code", status)
+                );
+            }
+        }
+    }
+
+    /**
+     * Trace scope of inbound request.
+     * @since 1.0
+     */
+    private static final class Scope {
+        /**
+         * Span exporter.
+         */
+        private final SpanExporter exporter;
+
+        /**
+         * Trace parent of server span.
+         */
+        private final TraceParent context;
+
+        /**
+         * Parent span ID from inbound request or empty string.
+         */
+        private final String parent;
+
+        /**
+         * Start time.
+         */
+        private final Instant start;
+
+        /**
+         * Start time in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * Ctor.
+         * @param exporter Span exporter
+         * @param context Trace parent of server span
+         * @param parent Parent span ID from inbound request or empty string
+         */
+        Scope(final SpanExporter exporter, final TraceParent context, final String parent) {
+            this.exporter = exporter;
+            this.context = context;
+            this.parent = parent;
+            this.start = Instant.now();
+            this.nanos = System.nanoTime();
+        }
+    }
+}
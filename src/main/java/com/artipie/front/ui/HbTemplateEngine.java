@@ -4,7 +4,10 @@
  */
 package com.artipie.front.ui;
 
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.jfr.RenderEvent;
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.cache.GuavaTemplateCache;
 import com.github.jknack.handlebars.helper.ConditionalHelpers;
 import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
@@ -39,12 +42,48 @@ public class HbTemplateEngine extends TemplateEngine {
         this.handlebars = HbTemplateEngine.setup(resource);
     }
 
+    /**
+     * Constructs a handlebars template engine with {@code asset} helper,
+     * which resolves static asset path to its fingerprinted URL:
+     * {@code {{asset "/css/style.css"}}}.
+     *
+     * @param resource The resource root
+     * @param assets Static assets
+     */
+    public HbTemplateEngine(final String resource, final StaticAssets assets) {
+        this(resource);
+        this.handlebars.registerHelper(
+            "asset", (Helper<String>) (path, options) -> assets.url(path)
+        );
+    }
+
     @Override
     public String render(final ModelAndView model) {
+        final RenderEvent event = new RenderEvent(model.getViewName());
+        final long start = System.nanoTime();
         try {
-            return this.handlebars.compile(model.getViewName()).apply(model.getModel());
+            final String res = this.handlebars.compile(model.getViewName())
+                .apply(model.getModel());
+            event.complete(res);
+            return res;
         } catch (final IOException err) {
             throw new RuntimeIOException(err);
+        } finally {
+            RequestTiming.add(RequestTiming.Phase.RENDER, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Compile templates ahead of the first render.
+     * @param names Template names
+     */
+    public void preload(final String... names) {
+        for (final String name : names) {
+            try {
+                this.handlebars.compile(name);
+            } catch (final IOException err) {
+                throw new RuntimeIOException(err);
+            }
         }
     }
 
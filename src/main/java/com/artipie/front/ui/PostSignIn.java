@@ -4,8 +4,11 @@
  */
 package com.artipie.front.ui;
 
+import com.artipie.front.AuthFilters;
 import com.artipie.front.rest.AuthService;
+import com.artipie.front.rest.JwtToken;
 import java.util.Objects;
+import java.util.function.Consumer;
 import org.eclipse.jetty.http.HttpStatus;
 import spark.Request;
 import spark.Response;
@@ -25,12 +28,27 @@ public final class PostSignIn implements Route {
      */
     private final AuthService auth;
 
+    /**
+     * Action on received token, e.g. prefetch of user data.
+     */
+    private final Consumer<String> signed;
+
     /**
      * New signin form processor.
      * @param auth Auth service.
      */
     public PostSignIn(final AuthService auth) {
+        this(auth, token -> { });
+    }
+
+    /**
+     * New signin form processor.
+     * @param auth Auth service.
+     * @param signed Action on received token, it should not block.
+     */
+    public PostSignIn(final AuthService auth, final Consumer<String> signed) {
         this.auth = auth;
+        this.signed = signed;
     }
 
     @Override
@@ -69,7 +87,11 @@ public final class PostSignIn implements Route {
             req.queryParamOrDefault("password", "")
         );
         req.session().attribute("token", token);
+        new JwtToken(token).expiry().ifPresent(
+            exp -> req.session().attribute(AuthFilters.TOKEN_EXPIRY, exp.getEpochSecond())
+        );
         req.session().attribute("uid", deleteGithubPrefix(req.queryParamOrDefault("username", "")));
+        this.signed.accept(token);
         rsp.redirect("/dashboard");
     }
 
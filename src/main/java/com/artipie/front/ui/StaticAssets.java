@@ -0,0 +1,276 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.ui;
+
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hashing;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.MimeTypes;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+import spark.Spark;
+
+/**
+ * Static assets served from memory under content-hashed URLs.
+ * All resources under the root classpath folder are read once,
+ * every asset gets URL with its content hash in the file name, e.g.
+ * {@code /assets/css/style.0f3c9a7e1b2d4c5a.css}, such URLs never change
+ * until the content changes, so they are served as immutable.
+ * Assets are loaded lazily on first access or by {@link #preload()}.
+ * Original URLs, e.g. {@code /css/style.css}, are still served by
+ * {@link #original()} for pages and links cached before fingerprinting,
+ * but they are revalidated on every use.
+ * @since 1.0
+ */
+public final class StaticAssets implements Route {
+    /**
+     * URL prefix of fingerprinted assets.
+     */
+    public static final String PREFIX = "/assets";
+
+    /**
+     * Asset folders which are also served by original URLs,
+     * for pages and links cached before assets were fingerprinted.
+     */
+    public static final List<String> LEGACY = List.of("/css", "/images", "/scripts");
+
+    /**
+     * Cache control header value for fingerprinted assets.
+     */
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    /**
+     * Cache control header value for original asset URLs.
+     */
+    private static final String REVALIDATE = "no-cache";
+
+    /**
+     * Length of the hash in asset name.
+     */
+    private static final int HASH_LEN = 16;
+
+    /**
+     * Loaded assets.
+     */
+    private final Supplier<Index> index;
+
+    /**
+     * Assets from classpath folder.
+     * @param root Classpath folder, e.g. {@code public}
+     */
+    public StaticAssets(final String root) {
+        this.index = Suppliers.memoize(() -> new Index(root));
+    }
+
+    /**
+     * Load assets if they are not loaded yet.
+     */
+    public void preload() {
+        this.index.get();
+    }
+
+    /**
+     * Fingerprinted URL of the asset.
+     * @param path Original asset path, e.g. {@code /css/style.css}
+     * @return Fingerprinted URL or original path if asset is unknown
+     */
+    public String url(final String path) {
+        return this.index.get().urls.getOrDefault(path, path);
+    }
+
+    /**
+     * Route serving assets by original path, e.g. {@code /css/style.css}.
+     * @return Route
+     */
+    public Route original() {
+        return (req, rsp) -> StaticAssets.serve(
+            this.index.get().original(req.pathInfo()),
+            rsp, StaticAssets.REVALIDATE
+        );
+    }
+
+    @Override
+    public Object handle(final Request req, final Response rsp) {
+        return StaticAssets.serve(
+            Optional.ofNullable(req.splat())
+                .filter(splat -> splat.length > 0)
+                .map(splat -> this.index.get().assets.get(splat[0]))
+                .orElse(null),
+            rsp, StaticAssets.IMMUTABLE
+        );
+    }
+
+    /**
+     * Serve asset.
+     * @param asset Asset or null if not found
+     * @param rsp Response
+     * @param cache Cache control header value
+     * @return Asset content
+     */
+    private static Object serve(final Asset asset, final Response rsp, final String cache) {
+        if (asset == null) {
+            Spark.halt(HttpStatus.NOT_FOUND_404);
+        }
+        rsp.type(asset.type);
+        rsp.header("Cache-Control", cache);
+        return asset.bytes;
+    }
+
+    /**
+     * Assets loaded from classpath folder.
+     * @since 1.0
+     */
+    private static final class Index {
+        /**
+         * Fingerprinted URLs by original asset path, e.g. {@code /css/style.css}.
+         */
+        private final Map<String, String> urls;
+
+        /**
+         * Assets by fingerprinted name (URL without prefix).
+         */
+        private final Map<String, Asset> assets;
+
+        /**
+         * Load assets from classpath folder.
+         * Folder is listed via file system of its URL, it may be a directory,
+         * jar file or native image resources.
+         * @param root Classpath folder
+         */
+        Index(final String root) {
+            this.urls = new HashMap<>();
+            this.assets = new HashMap<>();
+            final URL url = StaticAssets.class.getClassLoader().getResource(root);
+            if (url == null) {
+                Logger.warn(this, "static assets folder '%s' not found", root);
+            } else {
+                try {
+                    final URI uri = url.toURI();
+                    if ("file".equals(uri.getScheme())) {
+                        this.load(Paths.get(uri));
+                    } else {
+                        try (FileSystem fsys = FileSystems.newFileSystem(
+                            uri, Collections.emptyMap()
+                        )) {
+                            this.load(fsys.getPath(root));
+                        }
+                    }
+                } catch (final IOException err) {
+                    throw new UncheckedIOException(err);
+                } catch (final URISyntaxException err) {
+                    throw new IllegalStateException(err);
+                }
+            }
+        }
+
+        /**
+         * Asset by original path.
+         * @param path Original asset path, e.g. {@code /css/style.css}
+         * @return Asset or null if not found
+         */
+        private Asset original(final String path) {
+            return Optional.ofNullable(this.urls.get(path))
+                .map(url -> this.assets.get(url.substring(StaticAssets.PREFIX.length() + 1)))
+                .orElse(null);
+        }
+
+        /**
+         * Load all files from folder.
+         * @param dir Folder
+         * @throws IOException On error
+         */
+        private void load(final Path dir) throws IOException {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (final Path file : files.filter(Files::isRegularFile)
+                    .collect(Collectors.toList())) {
+                    this.add(
+                        StreamSupport.stream(dir.relativize(file).spliterator(), false)
+                            .map(Path::toString)
+                            .collect(Collectors.joining("/")),
+                        Files.readAllBytes(file)
+                    );
+                }
+            }
+        }
+
+        /**
+         * Add asset.
+         * @param name Asset name relative to root folder
+         * @param bytes Asset content
+         */
+        private void add(final String name, final byte[] bytes) {
+            final String hash = Hashing.sha256().hashBytes(bytes).toString()
+                .substring(0, StaticAssets.HASH_LEN);
+            final int dot = name.lastIndexOf('.');
+            final String fingerprinted;
+            if (dot > name.lastIndexOf('/')) {
+                fingerprinted = String.join(
+                    ".", name.substring(0, dot), hash, name.substring(dot + 1)
+                );
+            } else {
+                fingerprinted = String.join(".", name, hash);
+            }
+            this.assets.put(
+                fingerprinted,
+                new Asset(
+                    Optional.ofNullable(MimeTypes.getDefaultMimeByExtension(name))
+                        .orElse("application/octet-stream"),
+                    bytes
+                )
+            );
+            this.urls.put(
+                String.format("/%s", name),
+                String.format("%s/%s", StaticAssets.PREFIX, fingerprinted)
+            );
+        }
+    }
+
+    /**
+     * Asset loaded in memory.
+     * @since 1.0
+     */
+    private static final class Asset {
+        /**
+         * Content type.
+         */
+        private final String type;
+
+        /**
+         * Content.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Ctor.
+         * @param type Content type
+         * @param bytes Content
+         */
+        Asset(final String type, final byte[] bytes) {
+            this.type = type;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -8,16 +8,17 @@ import com.amihaiemil.eoyaml.Yaml;
 import com.amihaiemil.eoyaml.YamlMapping;
 import com.artipie.front.misc.RouteWrap;
 import com.artipie.front.rest.RepositoryService;
-import com.artipie.front.rest.SettingsService;
 import com.artipie.front.ui.HbPage;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 /**
  * List of repositories page.
+ * Repositories are paged, sorted and filtered by {@link RepoPage}, the page
+ * is rendered with repository names only, so it takes just one Artipie call;
+ * types and ports are loaded by the browser in batches from
+ * {@code /api/repository/details}.
  *
  * @checkstyle AvoidDuplicateLiterals (500 lines)
  * @since 1.0
@@ -28,30 +29,19 @@ public final class RepoList extends RouteWrap.TemplateViewRoute {
      * List of repositories page.
      *
      * @param repository Repository service.
-     * @param settings Settings service.
      */
-    public RepoList(final RepositoryService repository, final SettingsService settings) {
+    public RepoList(final RepositoryService repository) {
         super(
             new HbPage(
                 "repository/list",
                 req -> {
-                    final String token = req.session().attribute("token");
-                    final List<String> names = repository.list(token);
-                    final List<Repo> repos = new ArrayList<>(names.size());
-                    names.stream().sorted().forEach(
-                        name ->
-                            repos.add(
-                                new Repo(
-                                    Integer.toString(settings.port()),
-                                    name,
-                                    repository.repo(token, name)
-                                )
-                            )
-                    );
-                    return Map.of(
-                        "title", "Repository list",
-                        "repos", repos
+                    final RepoPage page = new RepoPage(
+                        repository.list(req.session().attribute("token")), req
                     );
+                    final Map<String, Object> params = page.params();
+                    params.put("title", "Repository list");
+                    params.put("repos", page.names());
+                    return params;
                 }
             )
         );
@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.ui.repository;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import spark.Request;
+
+/**
+ * Page of repository list.
+ * Repository names are filtered by case-insensitive substring, sorted by name
+ * ascending ({@code name}) or descending ({@code -name}) and sliced to the
+ * requested page, so only repositories of the page have to be fetched.
+ * @since 1.0
+ */
+public final class RepoPage {
+    /**
+     * Default page size.
+     */
+    static final int SIZE = 25;
+
+    /**
+     * Max page size.
+     */
+    static final int MAX_SIZE = 100;
+
+    /**
+     * Descending sort by name.
+     */
+    private static final String DESC = "-name";
+
+    /**
+     * Filtered and sorted repository names.
+     */
+    private final List<String> names;
+
+    /**
+     * Name filter.
+     */
+    private final String filter;
+
+    /**
+     * Sort order, {@code name} or {@code -name}.
+     */
+    private final String sort;
+
+    /**
+     * Page number starting from 1.
+     */
+    private final int page;
+
+    /**
+     * Page size.
+     */
+    private final int size;
+
+    /**
+     * Page of repository list from request query parameters
+     * {@code page}, {@code size}, {@code sort} and {@code filter}.
+     * @param all All repository names
+     * @param req Request
+     */
+    public RepoPage(final List<String> all, final Request req) {
+        this(
+            all,
+            Optional.ofNullable(req.queryParams("filter")).orElse(""),
+            Optional.ofNullable(req.queryParams("sort")).orElse("name"),
+            RepoPage.number(req.queryParams("page"), 1),
+            RepoPage.number(req.queryParams("size"), RepoPage.SIZE)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param all All repository names
+     * @param filter Name filter
+     * @param sort Sort order, {@code name} or {@code -name}
+     * @param page Page number starting from 1
+     * @param size Page size
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RepoPage(final List<String> all, final String filter, final String sort,
+        final int page, final int size) {
+        this.filter = filter.trim();
+        final String needle = this.filter.toLowerCase(Locale.ROOT);
+        Comparator<String> order = Comparator.naturalOrder();
+        if (RepoPage.DESC.equals(sort)) {
+            this.sort = RepoPage.DESC;
+            order = order.reversed();
+        } else {
+            this.sort = "name";
+        }
+        this.names = all.stream()
+            .filter(name -> name.toLowerCase(Locale.ROOT).contains(needle))
+            .sorted(order).toList();
+        this.size = Math.max(1, Math.min(size, RepoPage.MAX_SIZE));
+        this.page = Math.max(1, Math.min(page, this.pages()));
+    }
+
+    /**
+     * Repository names of the page.
+     * @return Names
+     */
+    public List<String> names() {
+        final int from = (this.page - 1) * this.size;
+        return this.names.subList(from, Math.min(from + this.size, this.names.size()));
+    }
+
+    /**
+     * Number of pages, at least one.
+     * @return Pages
+     */
+    public int pages() {
+        return Math.max(1, (this.names.size() + this.size - 1) / this.size);
+    }
+
+    /**
+     * Template parameters of pagination controls: {@code page}, {@code pages},
+     * {@code total}, {@code filter}, {@code sort}, {@code size}, links to
+     * {@code prev} and {@code next} pages (absent on the first and last page)
+     * and {@code resort} link to toggle sort order.
+     * @return Parameters
+     */
+    public Map<String, Object> params() {
+        final Map<String, Object> res = new HashMap<>();
+        res.put("page", this.page);
+        res.put("pages", this.pages());
+        res.put("total", this.names.size());
+        res.put("filter", this.filter);
+        res.put("sort", this.sort);
+        res.put("size", this.size);
+        if (this.page > 1) {
+            res.put("prev", this.link(this.page - 1, this.sort));
+        }
+        if (this.page < this.pages()) {
+            res.put("next", this.link(this.page + 1, this.sort));
+        }
+        if (RepoPage.DESC.equals(this.sort)) {
+            res.put("resort", this.link(1, "name"));
+        } else {
+            res.put("resort", this.link(1, RepoPage.DESC));
+        }
+        return res;
+    }
+
+    /**
+     * Link to page of the list.
+     * @param num Page number
+     * @param order Sort order
+     * @return Link
+     */
+    private String link(final int num, final String order) {
+        return String.format(
+            "?page=%d&size=%d&sort=%s&filter=%s",
+            num, this.size, order, URLEncoder.encode(this.filter, StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Positive number from query parameter.
+     * @param param Query parameter value, nullable
+     * @param def Default value
+     * @return Number or default if absent or malformed
+     */
+    private static int number(final String param, final int def) {
+        int res = def;
+        if (param != null) {
+            try {
+                res = Integer.parseInt(param.trim());
+            } catch (final NumberFormatException err) {
+                res = def;
+            }
+        }
+        return res;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package com.artipie.front.ui.repository;
 
+import com.artipie.front.api.RepositoryChanges;
 import com.artipie.front.misc.RouteWrap;
 import com.artipie.front.rest.RepositoryName;
 import com.artipie.front.rest.RepositoryService;
@@ -22,16 +23,21 @@ public final class RepoRemove extends RouteWrap.TemplateViewRoute {
      * Repository delete.
      *
      * @param repository Repository service.
+     * @param changes Receiver of repository changes.
      */
-    public RepoRemove(final RepositoryService repository) {
+    public RepoRemove(final RepositoryService repository, final RepositoryChanges changes) {
         super(
             new HbPage(
                 "repository/result",
                 req -> {
                     final RepositoryName rname = new RepositoryName.FromRequest(req);
+                    final String result = repository.remove(
+                        req.session().attribute("token"), rname
+                    );
+                    changes.removed(req.session().attribute("uid"), rname.toString());
                     return Map.of(
                         "title", String.format("Repository %s", rname),
-                        "result", repository.remove(req.session().attribute("token"), rname),
+                        "result", result,
                         "redirectUrl", "/dashboard/repository/list",
                         "redirectMessage", "Continue"
                     );
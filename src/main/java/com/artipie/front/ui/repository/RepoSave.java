@@ -4,6 +4,7 @@
  */
 package com.artipie.front.ui.repository;
 
+import com.artipie.front.api.RepositoryChanges;
 import com.artipie.front.misc.RouteWrap;
 import com.artipie.front.rest.RepositoryName;
 import com.artipie.front.rest.RepositoryService;
@@ -22,18 +23,21 @@ public final class RepoSave extends RouteWrap.TemplateViewRoute {
      * List of repositories page.
      *
      * @param repository Repository service.
+     * @param changes Receiver of repository changes.
      */
-    public RepoSave(final RepositoryService repository) {
+    public RepoSave(final RepositoryService repository, final RepositoryChanges changes) {
         super(
             new HbPage(
                 "repository/result",
                 req -> {
                     final RepositoryName rname = new RepositoryName.FromRequest(req);
+                    final String result = repository.save(
+                        req.session().attribute("token"), rname, req.queryParams("config")
+                    );
+                    changes.saved(req.session().attribute("uid"), rname.toString());
                     return Map.of(
-                        "title", String.format("Repository %s", rname), "result",
-                        repository.save(
-                            req.session().attribute("token"), rname, req.queryParams("config")
-                        ),
+                        "title", String.format("Repository %s", rname),
+                        "result", result,
                         "redirectUrl", String.format("/dashboard/repository/edit/%s", rname),
                         "redirectMessage", "Continue"
                     );
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.ui.repository;
+
+import com.artipie.front.api.ConfigSearch;
+import com.artipie.front.misc.RouteWrap;
+import com.artipie.front.ui.HbPage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository configurations search page.
+ * Finds repositories by content of configurations, e.g. proxy remote,
+ * storage path or permission user, and shows matched fields. While index
+ * of the user is being built, the page says that results may be incomplete.
+ *
+ * @since 1.0
+ */
+public final class RepoSearch extends RouteWrap.TemplateViewRoute {
+    /**
+     * Max number of found repositories.
+     */
+    private static final int LIMIT = 100;
+
+    /**
+     * Repository configurations search page.
+     *
+     * @param search Configurations search.
+     */
+    public RepoSearch(final ConfigSearch search) {
+        super(
+            new HbPage(
+                "repository/search",
+                req -> {
+                    final String query = Optional.ofNullable(req.queryParams("q"))
+                        .orElse("").trim();
+                    final List<Map<String, Object>> repos = new ArrayList<>(0);
+                    if (!query.isEmpty()) {
+                        search.search(
+                            req.session().attribute("uid"), req.session().attribute("token"),
+                            query, RepoSearch.LIMIT
+                        ).forEach(
+                            (name, fields) -> {
+                                final List<Map<String, String>> matched = new ArrayList<>(
+                                    fields.size()
+                                );
+                                fields.forEach(
+                                    (path, value) -> matched.add(
+                                        Map.of("path", path, "value", value)
+                                    )
+                                );
+                                repos.add(Map.of("name", name, "fields", matched));
+                            }
+                        );
+                    }
+                    return Map.of(
+                        "title", "Search repositories",
+                        "query", query,
+                        "found", repos.size(),
+                        "repos", repos,
+                        "indexing", !query.isEmpty()
+                            && !search.ready(req.session().attribute("uid"))
+                    );
+                }
+            )
+        );
+    }
+}
@@ -4,8 +4,12 @@
  */
 package com.artipie.front.ui.repository;
 
+import com.artipie.front.jfr.RouteEvent;
 import com.artipie.front.ui.HbTemplateEngine;
+import com.google.common.base.Suppliers;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import spark.ModelAndView;
 
 /**
@@ -27,15 +31,24 @@ public final class RepositoryInfo {
     private static final Map<String, String> ALIAS = Map.of("binary", "file");
 
     /**
-     * Template engine.
+     * Repository types with info-templates.
      */
-    private final HbTemplateEngine template;
+    private static final List<String> TYPES = List.of(
+        "maven", "file", "docker", "pypi", "npm", "rpm", "gem", "helm", "php", "deb", "nuget",
+        "go", "conda", "conan", "maven-proxy", "file-proxy", "npm-proxy", "pypi-proxy",
+        "php-proxy", "docker-proxy"
+    );
+
+    /**
+     * Template engine, created on first render.
+     */
+    private final Supplier<HbTemplateEngine> template;
 
     /**
      * Ctor.
      */
     public RepositoryInfo() {
-        this.template = new HbTemplateEngine("/info");
+        this.template = Suppliers.memoize(() -> new HbTemplateEngine("/info"));
     }
 
     /**
@@ -45,7 +58,8 @@ public final class RepositoryInfo {
      * @return Rendered template
      */
     public String render(final String type, final Map<String, Object> model) {
-        return this.template.render(
+        RouteEvent.repositoryType(type);
+        return this.template.get().render(
             new ModelAndView(
                 model,
                 String.format(RepositoryInfo.FORMAT, RepositoryInfo.resolveAlias(type))
@@ -53,6 +67,18 @@ public final class RepositoryInfo {
         );
     }
 
+    /**
+     * Create template engine and compile info-templates of all types
+     * ahead of the first render.
+     */
+    public void preload() {
+        this.template.get().preload(
+            RepositoryInfo.TYPES.stream()
+                .map(type -> String.format(RepositoryInfo.FORMAT, type))
+                .toArray(String[]::new)
+        );
+    }
+
     /**
      * Resolve alias-type to type.
      * @param alias Alias-type.
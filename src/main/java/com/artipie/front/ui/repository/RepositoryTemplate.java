@@ -4,9 +4,13 @@
  */
 package com.artipie.front.ui.repository;
 
+import com.artipie.front.jfr.RouteEvent;
 import com.artipie.front.ui.HbTemplateEngine;
+import com.google.common.base.Suppliers;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import spark.ModelAndView;
 
 /**
@@ -36,15 +40,15 @@ public final class RepositoryTemplate {
     );
 
     /**
-     * Template engine.
+     * Template engine, created on first render.
      */
-    private final HbTemplateEngine template;
+    private final Supplier<HbTemplateEngine> template;
 
     /**
      * Ctor.
      */
     public RepositoryTemplate() {
-        this.template = new HbTemplateEngine("/template");
+        this.template = Suppliers.memoize(() -> new HbTemplateEngine("/template"));
     }
 
     /**
@@ -55,16 +59,17 @@ public final class RepositoryTemplate {
      * @return Rendered yaml-template for repository type.
      */
     public String render(final String type, final Map<String, Object> model) {
+        RouteEvent.repositoryType(type);
         final String content;
         if (RepositoryTemplate.PREDEFINED.contains(type)) {
-            content = this.template.render(
+            content = this.template.get().render(
                 new ModelAndView(
                     model,
                     String.format(RepositoryTemplate.FORMAT, type)
                 )
             );
         } else {
-            content = this.template.render(
+            content = this.template.get().render(
                 new ModelAndView(
                     model,
                     String.format(RepositoryTemplate.FORMAT, RepositoryTemplate.DEFAULT_TEMPLATE)
@@ -73,4 +78,17 @@ public final class RepositoryTemplate {
         }
         return content;
     }
+
+    /**
+     * Create template engine and compile templates of all types
+     * ahead of the first render.
+     */
+    public void preload() {
+        this.template.get().preload(
+            Stream.concat(
+                RepositoryTemplate.PREDEFINED.stream(),
+                Stream.of(RepositoryTemplate.DEFAULT_TEMPLATE)
+            ).map(type -> String.format(RepositoryTemplate.FORMAT, type)).toArray(String[]::new)
+        );
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import java.time.Duration;
+import javax.servlet.http.HttpServletRequest;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link AdmissionControl}.
+ * @since 1.0
+ */
+final class AdmissionControlTest {
+
+    @Test
+    void rejectsBeyondLimitAndQueue() throws Exception {
+        final AdmissionControl admission = new AdmissionControl(1, 0, 0, Duration.ZERO);
+        final var rsp = Mockito.mock(Response.class);
+        admission.admit().handle(Mockito.mock(Request.class), rsp);
+        final HaltException halt = Assertions.assertThrows(
+            HaltException.class,
+            () -> admission.admit().handle(Mockito.mock(Request.class), rsp)
+        );
+        MatcherAssert.assertThat(
+            halt.statusCode(),
+            // @checkstyle MagicNumberCheck (1 line)
+            Matchers.equalTo(503)
+        );
+        Mockito.verify(rsp).header("Retry-After", "1");
+    }
+
+    @Test
+    void admitsAfterRelease() throws Exception {
+        final AdmissionControl admission = new AdmissionControl(1, 0, 0, Duration.ZERO);
+        final var req = Mockito.mock(Request.class);
+        Mockito.when(req.attribute("admission.permit")).thenReturn(true);
+        Mockito.when(req.raw()).thenReturn(Mockito.mock(HttpServletRequest.class));
+        admission.admit().handle(req, Mockito.mock(Response.class));
+        admission.release().handle(req, Mockito.mock(Response.class));
+        Assertions.assertDoesNotThrow(
+            () -> admission.admit().handle(
+                Mockito.mock(Request.class), Mockito.mock(Response.class)
+            )
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import org.eclipse.jetty.http.HttpStatus;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link AuthFilters}.
+ * @since 1.0
+ */
+final class AuthFiltersTest {
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "/signin", "/.health", "/assets/css/style.0f3c9a7e1b2d4c5a.css", "/css/style.css",
+            "/images/searchicon.png", "/scripts/jquery-3.6.1.min.js"
+        }
+    )
+    void letsSignedOutUserToPublicPaths(final String path) throws Exception {
+        final var req = Mockito.mock(Request.class);
+        final var rsp = Mockito.mock(Response.class);
+        Mockito.when(req.pathInfo()).thenReturn(path);
+        AuthFilters.AUTHENTICATE.handle(req, rsp);
+        Mockito.verify(rsp, Mockito.never()).redirect(Mockito.anyString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/dashboard", "/css", "/cssx/style.css", "/api/repository/list"})
+    void redirectsSignedOutUserToSignIn(final String path) {
+        final var req = Mockito.mock(Request.class);
+        final var rsp = Mockito.mock(Response.class);
+        Mockito.when(req.pathInfo()).thenReturn(path);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                HaltException.class, () -> AuthFilters.AUTHENTICATE.handle(req, rsp)
+            ).statusCode(),
+            Matchers.equalTo(HttpStatus.UNAUTHORIZED_401)
+        );
+        Mockito.verify(rsp).redirect("/signin");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link Drain}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class DrainTest {
+
+    @Test
+    void servesRequestsDuringGrace() throws Exception {
+        final Drain drain = new Drain(Duration.ofMinutes(1), Duration.ZERO);
+        MatcherAssert.assertThat(drain.ready(), Matchers.is(true));
+        final Thread draining = new Thread(
+            () -> {
+                try {
+                    drain.drain(() -> 0);
+                } catch (final InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        );
+        draining.start();
+        while (drain.ready()) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        Assertions.assertDoesNotThrow(
+            () -> drain.track().handle(DrainTest.request(), Mockito.mock(Response.class))
+        );
+        MatcherAssert.assertThat(drain.active(), Matchers.equalTo(1));
+        draining.interrupt();
+        draining.join();
+    }
+
+    @Test
+    void rejectsNewRequestsAfterGrace() throws Exception {
+        final Drain drain = new Drain(Duration.ZERO, Duration.ZERO);
+        MatcherAssert.assertThat(drain.drain(() -> 0), Matchers.is(true));
+        final Response rsp = Mockito.mock(Response.class);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                HaltException.class,
+                () -> drain.track().handle(DrainTest.request(), rsp)
+            ).statusCode(),
+            Matchers.equalTo(503)
+        );
+        Mockito.verify(rsp).header("Connection", "close");
+        MatcherAssert.assertThat(drain.active(), Matchers.equalTo(0));
+    }
+
+    @Test
+    void waitsForActiveRequests() throws Exception {
+        final Drain drain = new Drain(Duration.ZERO, Duration.ofMinutes(1));
+        final Request req = DrainTest.request();
+        drain.track().handle(req, Mockito.mock(Response.class));
+        final CompletableFuture<Boolean> drained = DrainTest.drain(drain);
+        TimeUnit.MILLISECONDS.sleep(200);
+        MatcherAssert.assertThat(drained.isDone(), Matchers.is(false));
+        drain.untrack().handle(req, Mockito.mock(Response.class));
+        MatcherAssert.assertThat(drained.get(10, TimeUnit.SECONDS), Matchers.is(true));
+    }
+
+    @Test
+    void givesUpAfterDeadline() throws Exception {
+        final Drain drain = new Drain(Duration.ZERO, Duration.ofMillis(100));
+        drain.track().handle(DrainTest.request(), Mockito.mock(Response.class));
+        MatcherAssert.assertThat(drain.drain(() -> 0), Matchers.is(false));
+        MatcherAssert.assertThat(drain.active(), Matchers.equalTo(1));
+    }
+
+    @Test
+    void waitsForPendingUpstreamCalls() throws Exception {
+        final Drain drain = new Drain(Duration.ZERO, Duration.ofMillis(100));
+        MatcherAssert.assertThat(drain.drain(() -> 1), Matchers.is(false));
+    }
+
+    /**
+     * Drain in background.
+     * @param drain Drain
+     * @return Result of drain
+     */
+    private static CompletableFuture<Boolean> drain(final Drain drain) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return drain.drain(() -> 0);
+                } catch (final InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(err);
+                }
+            }
+        );
+    }
+
+    /**
+     * Request which is tracked once it passed track filter.
+     * @return Request
+     */
+    private static Request request() {
+        final Request req = Mockito.mock(Request.class);
+        Mockito.when(req.attribute("drain.tracked")).thenReturn(true);
+        Mockito.when(req.raw()).thenReturn(Mockito.mock(HttpServletRequest.class));
+        return req;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.load.Latency;
+import com.artipie.front.load.LoadDriver;
+import com.artipie.front.load.StubArtipie;
+import com.artipie.front.session.Sessions;
+import com.artipie.front.trace.SpanExporter;
+import com.artipie.front.trace.Tracing;
+import com.jcabi.log.Logger;
+import java.time.Duration;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Load test of {@link Service} against stub Artipie.
+ * Load is configured with system properties: {@code load.users},
+ * {@code load.seconds}, {@code stub.repos}, {@code stub.config} (bytes),
+ * {@code stub.latency} (see {@link Latency#parse(String)}) and
+ * {@code stub.errors} (rate from 0 to 1).
+ * @since 1.0
+ */
+final class ServiceLoadIT {
+
+    @Test
+    void servesLoad() {
+        final int repos = Integer.getInteger("stub.repos", 100);
+        try (StubArtipie stub = new StubArtipie(
+            repos, Integer.getInteger("stub.config", 1024),
+            Latency.parse(System.getProperty("stub.latency", "uniform:1:10")),
+            Double.parseDouble(System.getProperty("stub.errors", "0"))
+        ).start()) {
+            final Service service = new Service(
+                // @checkstyle MagicNumberCheck (2 lines)
+                new AdmissionControl(32, 64, 16, Duration.ofSeconds(5)),
+                new Drain(Duration.ZERO, Duration.ofSeconds(1)),
+                new RequestTiming(Duration.ofSeconds(1)),
+                new Tracing(SpanExporter.NONE),
+                Set.of(),
+                Sessions.JETTY
+            );
+            service.start(0, stub.url());
+            try {
+                final LoadDriver driver = new LoadDriver(
+                    String.format("http://localhost:%d", service.port()),
+                    Integer.getInteger("load.users", 8), repos
+                );
+                Logger.info(
+                    this, "load report:%n%s",
+                    driver.run(Duration.ofSeconds(Integer.getInteger("load.seconds", 10)))
+                );
+                MatcherAssert.assertThat(driver.completed(), Matchers.greaterThan(0L));
+            } finally {
+                service.stop();
+            }
+        }
+    }
+}
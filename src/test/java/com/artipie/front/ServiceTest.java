@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front;
+
+import com.artipie.front.internal.RequestTiming;
+import com.artipie.front.load.Latency;
+import com.artipie.front.load.StubArtipie;
+import com.artipie.front.session.Sessions;
+import com.artipie.front.trace.SpanExporter;
+import com.artipie.front.trace.Tracing;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eclipse.jetty.http.HttpStatus;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Service} against stub Artipie.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ServiceTest {
+    /**
+     * CSRF token in sign in form.
+     */
+    private static final Pattern CRSF = Pattern.compile(
+        "name=\"_crsf\" type=\"hidden\" value=\"([^\"]*)\""
+    );
+
+    /**
+     * Stub Artipie.
+     */
+    private StubArtipie stub;
+
+    /**
+     * Service to test.
+     */
+    private Service service;
+
+    @BeforeEach
+    void init() {
+        this.stub = new StubArtipie(2, 64, Latency.parse("none"), 0).start();
+        this.service = new Service(
+            new AdmissionControl(4, 8, 4, Duration.ofSeconds(5)),
+            new Drain(Duration.ZERO, Duration.ofSeconds(1)),
+            new RequestTiming(Duration.ofSeconds(1)),
+            new Tracing(SpanExporter.NONE),
+            Set.of(),
+            Sessions.JETTY
+        );
+        this.service.start(0, this.stub.url());
+    }
+
+    @AfterEach
+    void stop() {
+        this.service.stop();
+        this.stub.close();
+    }
+
+    @Test
+    void returnsJsonErrorStatusOfApi() throws Exception {
+        final HttpClient client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        this.signin(client);
+        final HttpResponse<String> rsp = client.send(
+            HttpRequest.newBuilder(this.uri("/api/repository/details"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        MatcherAssert.assertThat(
+            "Status is not 400",
+            rsp.statusCode(),
+            Matchers.equalTo(HttpStatus.BAD_REQUEST_400)
+        );
+        MatcherAssert.assertThat(
+            "Content type is not json",
+            rsp.headers().firstValue("Content-Type").orElse(""),
+            Matchers.startsWith("application/json")
+        );
+        MatcherAssert.assertThat(
+            rsp.body(),
+            Matchers.startsWith("{\"error\":")
+        );
+    }
+
+    /**
+     * Sign in to the service.
+     * @param client Http client
+     * @throws Exception On error
+     */
+    private void signin(final HttpClient client) throws Exception {
+        final Matcher crsf = ServiceTest.CRSF.matcher(
+            client.send(
+                HttpRequest.newBuilder(this.uri("/signin")).build(),
+                HttpResponse.BodyHandlers.ofString()
+            ).body()
+        );
+        MatcherAssert.assertThat("Sign in form has no CSRF token", crsf.find());
+        client.send(
+            HttpRequest.newBuilder(this.uri("/signin"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(
+                    HttpRequest.BodyPublishers.ofString(
+                        String.format(
+                            "username=alice&password=secret&_crsf=%s",
+                            URLEncoder.encode(crsf.group(1), StandardCharsets.UTF_8)
+                        )
+                    )
+                ).build(),
+            HttpResponse.BodyHandlers.discarding()
+        );
+    }
+
+    /**
+     * URI of the service.
+     * @param path Path
+     * @return URI
+     */
+    private URI uri(final String path) {
+        return URI.create(String.format("http://localhost:%d%s", this.service.port(), path));
+    }
+}
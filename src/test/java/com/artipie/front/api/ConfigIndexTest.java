@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ConfigIndex}.
+ * @since 1.0
+ */
+final class ConfigIndexTest {
+    /**
+     * Index to test.
+     */
+    private ConfigIndex index;
+
+    @BeforeEach
+    void init() {
+        this.index = new ConfigIndex();
+        this.index.put(
+            "maven-proxy", 1,
+            Map.of(
+                "repo.type", "maven-proxy",
+                "repo.remote.url", "https://repo.maven.apache.org/maven2",
+                "repo.storage.path", "/var/artipie/data"
+            )
+        );
+        this.index.put(
+            "npm", 2,
+            Map.of(
+                "repo.type", "npm",
+                "repo.storage.path", "/var/artipie/npm",
+                "repo.permissions.alice[0]", "read"
+            )
+        );
+    }
+
+    @Test
+    void findsMatchedFields() {
+        MatcherAssert.assertThat(
+            this.index.search("Apache.org", 10),
+            Matchers.equalTo(
+                Map.of(
+                    "maven-proxy",
+                    Map.of("repo.remote.url", "https://repo.maven.apache.org/maven2")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            this.index.search("storage artipie", 10).keySet(),
+            Matchers.contains("maven-proxy", "npm")
+        );
+        MatcherAssert.assertThat(
+            this.index.search("alice", 10).get("npm"),
+            Matchers.hasEntry("repo.permissions.alice[0]", "read")
+        );
+    }
+
+    @Test
+    void updatesIncrementally() {
+        this.index.put("npm", 3, Map.of("repo.type", "npm"));
+        this.index.remove("maven-proxy");
+        MatcherAssert.assertThat(this.index.search("alice", 10), Matchers.anEmptyMap());
+        MatcherAssert.assertThat(this.index.search("maven", 10), Matchers.anEmptyMap());
+        MatcherAssert.assertThat(this.index.versions(), Matchers.equalTo(Map.of("npm", 3)));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.rest.RepositoryService;
+import com.artipie.front.rest.SettingsService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link ConfigSearch}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ConfigSearchTest {
+    /**
+     * Repository service.
+     */
+    private RepositoryService repository;
+
+    /**
+     * Repository configurations.
+     */
+    private RepositoryConfigs configs;
+
+    /**
+     * Threads which called Artipie.
+     */
+    private Set<Thread> threads;
+
+    /**
+     * Search to test.
+     */
+    private ConfigSearch search;
+
+    @BeforeEach
+    void init() {
+        this.threads = ConcurrentHashMap.newKeySet();
+        this.repository = Mockito.mock(RepositoryService.class);
+        Mockito.when(this.repository.list("token")).thenAnswer(
+            inv -> {
+                this.threads.add(Thread.currentThread());
+                return List.of("maven-proxy", "npm");
+            }
+        );
+        this.config("maven-proxy", "https://repo.maven.apache.org/maven2");
+        this.config("npm", "https://registry.npmjs.org");
+        this.configs = new RepositoryConfigs(
+            this.repository, Mockito.mock(SettingsService.class), Duration.ofMinutes(1)
+        );
+        this.search = new ConfigSearch(
+            this.repository, this.configs, Duration.ofMinutes(1), Duration.ofMinutes(1)
+        );
+    }
+
+    @AfterEach
+    void stop() {
+        this.search.stop();
+    }
+
+    @Test
+    void searchesIndexBuiltInBackground() {
+        this.search.search("alice", "token", "maven", 10);
+        this.search.refresh();
+        MatcherAssert.assertThat(
+            "Index is not ready",
+            this.search.ready("alice")
+        );
+        MatcherAssert.assertThat(
+            this.search.search("alice", "token", "repo.maven.apache.org", 10).keySet(),
+            Matchers.contains("maven-proxy")
+        );
+        MatcherAssert.assertThat(
+            "Artipie was called on search thread",
+            this.threads,
+            Matchers.not(Matchers.hasItem(Thread.currentThread()))
+        );
+    }
+
+    @Test
+    void reindexesOnlyChangedConfigurations() {
+        this.search.search("alice", "token", "maven", 10);
+        this.search.refresh();
+        this.search.refresh();
+        Mockito.verify(this.repository, Mockito.times(1)).repo("token", "npm");
+        this.config("npm", "https://npm.example.com");
+        this.configs.saved("alice", "npm");
+        this.search.refresh();
+        MatcherAssert.assertThat(
+            this.search.search("alice", "token", "npm.example.com", 10).keySet(),
+            Matchers.contains("npm")
+        );
+    }
+
+    @Test
+    void dropsRemovedRepository() {
+        this.search.search("alice", "token", "maven", 10);
+        this.search.refresh();
+        this.search.removed("alice", "maven-proxy");
+        MatcherAssert.assertThat(
+            this.search.search("alice", "token", "repo.maven.apache.org", 10),
+            Matchers.anEmptyMap()
+        );
+    }
+
+    /**
+     * Mock configuration of proxy repository.
+     * @param name Repository name
+     * @param remote Remote URL
+     */
+    private void config(final String name, final String remote) {
+        Mockito.when(this.repository.repo("token", name)).thenAnswer(
+            inv -> {
+                this.threads.add(Thread.currentThread());
+                return String.format("repo:\n  type: proxy\n  remote:\n    url: %s\n", remote);
+            }
+        );
+    }
+}
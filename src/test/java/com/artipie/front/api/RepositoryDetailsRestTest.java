@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.ArtipieException;
+import com.artipie.front.RestException;
+import com.artipie.front.rest.RepositoryService;
+import com.artipie.front.rest.SettingsService;
+import java.time.Duration;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+/**
+ * Test case for {@link RepositoryDetailsRest}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RepositoryDetailsRestTest {
+    /**
+     * Route to test.
+     */
+    private RepositoryDetailsRest route;
+
+    @BeforeEach
+    void init() {
+        final RepositoryService repository = Mockito.mock(RepositoryService.class);
+        Mockito.when(repository.repo("token", "maven"))
+            .thenReturn("repo:\n  type: maven\n");
+        Mockito.when(repository.repo("token", "gone"))
+            .thenThrow(new RestException(404, "Not found"));
+        Mockito.when(repository.repo("token", "down"))
+            .thenThrow(new ArtipieException("connection reset"));
+        final SettingsService settings = Mockito.mock(SettingsService.class);
+        Mockito.when(settings.port()).thenReturn(8080);
+        this.route = new RepositoryDetailsRest(
+            new RepositoryConfigs(repository, settings, Duration.ofMinutes(1))
+        );
+    }
+
+    @Test
+    void returnsDetailsInOrder() {
+        MatcherAssert.assertThat(
+            this.route.handle(
+                RepositoryDetailsRestTest.request(
+                    "{\"names\":[\"gone\",\"maven\",\"down\"]}"
+                ),
+                Mockito.mock(Response.class)
+            ),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "[{\"name\":\"gone\",\"error\":404},",
+                    "{\"name\":\"maven\",\"type\":\"maven\",\"port\":\"8080\"},",
+                    "{\"name\":\"down\",\"error\":502}]"
+                )
+            )
+        );
+    }
+
+    @Test
+    void rejectsTooLargeBatch() {
+        final String names = String.join(
+            ",", Collections.nCopies(RepositoryDetailsRest.MAX_NAMES + 1, "\"maven\"")
+        );
+        Assertions.assertThrows(
+            RestException.class,
+            () -> this.route.handle(
+                RepositoryDetailsRestTest.request(String.format("{\"names\":[%s]}", names)),
+                Mockito.mock(Response.class)
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "[]", "{}", "{\"names\":\"maven\"}", "{\"names\":[1]}"})
+    void rejectsMalformedBody(final String body) {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                RestException.class,
+                () -> this.route.handle(
+                    RepositoryDetailsRestTest.request(body), Mockito.mock(Response.class)
+                )
+            ).statusCode(),
+            Matchers.equalTo(400)
+        );
+    }
+
+    /**
+     * Request of signed in user.
+     * @param body Request body
+     * @return Request
+     */
+    private static Request request(final String body) {
+        final Request req = Mockito.mock(Request.class);
+        final Session session = Mockito.mock(Session.class);
+        Mockito.when(session.attribute("uid")).thenReturn("alice");
+        Mockito.when(session.attribute("token")).thenReturn("token");
+        Mockito.when(req.session()).thenReturn(session);
+        Mockito.when(req.body()).thenReturn(body);
+        return req;
+    }
+}
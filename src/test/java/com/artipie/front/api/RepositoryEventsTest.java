@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.front.rest.RepositoryService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link RepositoryEvents}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RepositoryEventsTest {
+    /**
+     * Repository service.
+     */
+    private RepositoryService repository;
+
+    /**
+     * Events to test.
+     */
+    private RepositoryEvents events;
+
+    /**
+     * Received frames.
+     */
+    private List<String> frames;
+
+    @BeforeEach
+    void init() {
+        this.repository = Mockito.mock(RepositoryService.class);
+        Mockito.when(this.repository.list("token")).thenReturn(List.of("maven"));
+        this.events = new RepositoryEvents(this.repository, Duration.ofMinutes(1));
+        this.frames = new CopyOnWriteArrayList<>();
+        this.events.subscribe("alice", "token", this.frames::add);
+    }
+
+    @Test
+    void sendsSavedAndRemoved() {
+        this.events.saved("alice", "maven");
+        this.events.saved("alice", "npm");
+        this.events.removed("alice", "maven");
+        this.events.saved("bob", "docker");
+        MatcherAssert.assertThat(
+            this.frames,
+            Matchers.contains(
+                "event: update\ndata: {\"name\":\"maven\"}\n\n",
+                "event: add\ndata: {\"name\":\"npm\"}\n\n",
+                "event: remove\ndata: {\"name\":\"maven\"}\n\n"
+            )
+        );
+    }
+
+    @Test
+    void sendsDifferenceOfRefreshedList() {
+        Mockito.when(this.repository.list("token")).thenReturn(List.of("npm"));
+        this.events.refresh();
+        MatcherAssert.assertThat(
+            this.frames,
+            Matchers.contains(
+                "event: add\ndata: {\"name\":\"npm\"}\n\n",
+                "event: remove\ndata: {\"name\":\"maven\"}\n\n",
+                ":ping\n\n"
+            )
+        );
+    }
+
+    @Test
+    void forgetsClosedStreams() {
+        this.events.subscribe(
+            "bob", "token",
+            frame -> {
+                throw new UncheckedIOException(new IOException("closed"));
+            }
+        );
+        this.events.refresh();
+        this.events.refresh();
+        Mockito.verify(this.repository, Mockito.times(5)).list("token");
+    }
+
+    @Test
+    void startsFromCurrentListAfterResubscribe() {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        this.events.subscribe("bob", "token", received::add).run();
+        Mockito.when(this.repository.list("token")).thenReturn(List.of("maven", "npm"));
+        this.events.subscribe("bob", "token", received::add);
+        this.events.saved("bob", "npm");
+        MatcherAssert.assertThat(
+            received, Matchers.contains("event: update\ndata: {\"name\":\"npm\"}\n\n")
+        );
+    }
+
+    @Test
+    void keepsSubscriberRacingWithUnsubscribe() throws Exception {
+        for (int run = 0; run < 100; ++run) {
+            final Runnable first = this.events.subscribe("carol", "token", frame -> { });
+            final List<String> received = new CopyOnWriteArrayList<>();
+            final CountDownLatch start = new CountDownLatch(1);
+            final Future<Runnable> second;
+            try (ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor()) {
+                exec.submit(
+                    () -> {
+                        start.await();
+                        first.run();
+                        return null;
+                    }
+                );
+                second = exec.submit(
+                    () -> {
+                        start.await();
+                        return this.events.subscribe("carol", "token", received::add);
+                    }
+                );
+                start.countDown();
+            }
+            this.events.saved("carol", "maven");
+            MatcherAssert.assertThat(received, Matchers.hasSize(1));
+            second.get().run();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RepositoryIndex}.
+ * @since 1.0
+ */
+final class RepositoryIndexTest {
+    /**
+     * Index to test.
+     */
+    private final RepositoryIndex index = new RepositoryIndex(
+        List.of(
+            new RepositoryIndex.Entry("maven-central-proxy", "maven-proxy", "8080"),
+            new RepositoryIndex.Entry("maven", "maven", "8080"),
+            new RepositoryIndex.Entry("npm-proxy", "npm-proxy", "8081"),
+            new RepositoryIndex.Entry("Docker", "docker", "8080")
+        )
+    );
+
+    @Test
+    void findsBySubstring() {
+        MatcherAssert.assertThat(
+            RepositoryIndexTest.names(this.index.search("PROXY", "", "", 10)),
+            Matchers.contains("maven-central-proxy", "npm-proxy")
+        );
+        MatcherAssert.assertThat(
+            RepositoryIndexTest.names(this.index.search("do", "", "", 10)),
+            Matchers.contains("Docker")
+        );
+        MatcherAssert.assertThat(
+            this.index.search("central-maven", "", "", 10).total(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void filtersAndCountsFacets() {
+        final RepositoryIndex.Result res = this.index.search("", "", "8080", 1);
+        MatcherAssert.assertThat(res.total(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(RepositoryIndexTest.names(res), Matchers.contains("Docker"));
+        MatcherAssert.assertThat(res.ports(), Matchers.hasEntry("8081", 1));
+        MatcherAssert.assertThat(
+            this.index.search("maven", "maven-proxy", "", 10).types(),
+            Matchers.allOf(
+                Matchers.hasEntry("maven", 1), Matchers.hasEntry("maven-proxy", 1)
+            )
+        );
+    }
+
+    /**
+     * Names of found repositories.
+     * @param res Search result
+     * @return Names
+     */
+    private static List<String> names(final RepositoryIndex.Result res) {
+        return res.repos().stream().map(RepositoryIndex.Entry::name)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.api;
+
+import com.artipie.ArtipieException;
+import com.artipie.front.rest.RepositoryService;
+import com.artipie.front.rest.SettingsService;
+import java.time.Duration;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+/**
+ * Test case for {@link RepositoryListRest}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RepositoryListRestTest {
+    /**
+     * Repository service.
+     */
+    private RepositoryService repository;
+
+    /**
+     * Repository configurations.
+     */
+    private RepositoryConfigs configs;
+
+    /**
+     * Route to test.
+     */
+    private RepositoryListRest route;
+
+    @BeforeEach
+    void init() {
+        this.repository = Mockito.mock(RepositoryService.class);
+        Mockito.when(this.repository.list("token")).thenReturn(List.of("npm", "maven"));
+        Mockito.when(this.repository.repo("token", "maven"))
+            .thenReturn("repo:\n  type: maven\n");
+        Mockito.when(this.repository.repo("token", "npm"))
+            .thenReturn("repo:\n  type: npm\n  port: 8081\n");
+        final SettingsService settings = Mockito.mock(SettingsService.class);
+        Mockito.when(settings.port()).thenReturn(8080);
+        this.configs = new RepositoryConfigs(this.repository, settings, Duration.ofMinutes(1));
+        this.route = new RepositoryListRest(this.repository, this.configs);
+    }
+
+    @Test
+    void returnsSummaries() {
+        final Response rsp = Mockito.mock(Response.class);
+        MatcherAssert.assertThat(
+            this.route.handle(RepositoryListRestTest.request(null), rsp),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "[{\"name\":\"maven\",\"type\":\"maven\",\"port\":\"8080\"},",
+                    "{\"name\":\"npm\",\"type\":\"npm\",\"port\":\"8081\"}]"
+                )
+            )
+        );
+        Mockito.verify(rsp, Mockito.never()).status(304);
+    }
+
+    @Test
+    void returnsErrorOfFailedRepository() {
+        Mockito.when(this.repository.repo("token", "npm"))
+            .thenThrow(new ArtipieException("connection reset"));
+        MatcherAssert.assertThat(
+            this.route.handle(RepositoryListRestTest.request(null), Mockito.mock(Response.class)),
+            Matchers.endsWith("{\"name\":\"npm\",\"error\":502}]")
+        );
+    }
+
+    @Test
+    void returnsNotModifiedForSameTag() {
+        final String etag = RepositoryListRestTest.etag(this.route);
+        final Response second = Mockito.mock(Response.class);
+        MatcherAssert.assertThat(
+            this.route.handle(RepositoryListRestTest.request(etag), second),
+            Matchers.emptyString()
+        );
+        Mockito.verify(second).status(304);
+        Mockito.verify(this.repository, Mockito.times(1)).repo("token", "maven");
+    }
+
+    @Test
+    void changesTagWhenRepositoryChanges() {
+        final String before = RepositoryListRestTest.etag(this.route);
+        Mockito.when(this.repository.repo("token", "maven"))
+            .thenReturn("repo:\n  type: maven\n  port: 8082\n");
+        MatcherAssert.assertThat(
+            "Cached repository is not read again",
+            RepositoryListRestTest.etag(this.route),
+            Matchers.equalTo(before)
+        );
+        this.configs.saved("alice", "maven");
+        MatcherAssert.assertThat(
+            "Saved repository is read again",
+            RepositoryListRestTest.etag(this.route),
+            Matchers.not(Matchers.equalTo(before))
+        );
+        Mockito.verify(this.repository, Mockito.times(1)).repo("token", "npm");
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        Mockito.when(this.repository.repo("token", "npm"))
+            .thenThrow(new ArtipieException("connection reset"))
+            .thenReturn("repo:\n  type: npm\n");
+        final String failed = RepositoryListRestTest.etag(this.route);
+        MatcherAssert.assertThat(
+            this.route.handle(RepositoryListRestTest.request(failed), Mockito.mock(Response.class)),
+            Matchers.endsWith("{\"name\":\"npm\",\"type\":\"npm\",\"port\":\"8080\"}]")
+        );
+        Mockito.verify(this.repository, Mockito.times(1)).repo("token", "maven");
+    }
+
+    /**
+     * ETag of repository list.
+     * @param route Route
+     * @return ETag
+     */
+    private static String etag(final RepositoryListRest route) {
+        final Response rsp = Mockito.mock(Response.class);
+        route.handle(RepositoryListRestTest.request(null), rsp);
+        final ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(rsp).header(Mockito.eq("ETag"), etag.capture());
+        return etag.getValue();
+    }
+
+    /**
+     * Request of signed in user.
+     * @param etag Value of If-None-Match header, nullable
+     * @return Request
+     */
+    private static Request request(final String etag) {
+        final Request req = Mockito.mock(Request.class);
+        final Session session = Mockito.mock(Session.class);
+        Mockito.when(session.attribute("uid")).thenReturn("alice");
+        Mockito.when(session.attribute("token")).thenReturn("token");
+        Mockito.when(req.session()).thenReturn(session);
+        Mockito.when(req.headers("If-None-Match")).thenReturn(etag);
+        return req;
+    }
+}
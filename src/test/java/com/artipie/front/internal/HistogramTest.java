@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Histogram}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HistogramTest {
+
+    @Test
+    void estimatesQuantiles() {
+        final Histogram hist = new Histogram();
+        for (int idx = 0; idx < 99; ++idx) {
+            hist.record(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        hist.record(TimeUnit.SECONDS.toNanos(1));
+        MatcherAssert.assertThat(
+            "median",
+            (double) hist.quantile(0.5),
+            Matchers.closeTo(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(3))
+        );
+        MatcherAssert.assertThat(
+            "max",
+            (double) hist.quantile(1.0),
+            Matchers.closeTo(TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(250))
+        );
+    }
+
+    @Test
+    void writesCumulativeBuckets() {
+        final Histogram hist = new Histogram();
+        hist.record(TimeUnit.MILLISECONDS.toNanos(1));
+        hist.record(TimeUnit.MINUTES.toNanos(10));
+        final StringBuilder out = new StringBuilder();
+        hist.write(out, "latency", "route=\"/signin\"");
+        MatcherAssert.assertThat(
+            out.toString(),
+            Matchers.allOf(
+                Matchers.containsString("latency_bucket{route=\"/signin\",le=\"+Inf\"} 2\n"),
+                Matchers.containsString("latency_count{route=\"/signin\"} 2\n"),
+                Matchers.containsString("latency_sum{route=\"/signin\"} 600.001000\n")
+            )
+        );
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Metrics}.
+ * @since 1.0
+ */
+final class MetricsTest {
+
+    @Test
+    void writesPrometheusText() {
+        final Metrics metrics = new Metrics();
+        metrics.counter("requests_total", "Requests", "status", "200").increment();
+        metrics.counter("requests_total", "Requests", "status", "200").increment();
+        metrics.counter("requests_total", "Requests", "status", "404").increment();
+        metrics.gauge("threads", "Threads", () -> 2);
+        MatcherAssert.assertThat(
+            metrics.prometheus(),
+            Matchers.equalTo(
+                String.join(
+                    "\n",
+                    "# HELP requests_total Requests",
+                    "# TYPE requests_total counter",
+                    "requests_total{status=\"200\"} 2",
+                    "requests_total{status=\"404\"} 1",
+                    "# HELP threads Threads",
+                    "# TYPE threads gauge",
+                    "threads 2.0",
+                    ""
+                )
+            )
+        );
+    }
+
+    @Test
+    void escapesLabelValues() {
+        final Metrics metrics = new Metrics();
+        metrics.counter("errors_total", "Errors", "msg", "a \"b\"").increment();
+        MatcherAssert.assertThat(
+            metrics.prometheus(),
+            Matchers.containsString("errors_total{msg=\"a \\\"b\\\"\"} 1\n")
+        );
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link ReadinessRoute}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ReadinessRouteTest {
+
+    @Test
+    void returnsOkWhenReady() throws Exception {
+        final var rsp = Mockito.mock(Response.class);
+        MatcherAssert.assertThat(
+            new ReadinessRoute(() -> true).handle(Mockito.mock(Request.class), rsp),
+            Matchers.equalTo("OK")
+        );
+        Mockito.verify(rsp).status(200);
+    }
+
+    @Test
+    void returnsUnavailableWhenNotReady() throws Exception {
+        final var rsp = Mockito.mock(Response.class);
+        MatcherAssert.assertThat(
+            new ReadinessRoute(() -> false).handle(Mockito.mock(Request.class), rsp),
+            Matchers.equalTo("NOT READY")
+        );
+        Mockito.verify(rsp).status(503);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link RequestTiming}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RequestTimingTest {
+
+    @Test
+    void sendsServerTimingHeader() throws Exception {
+        final RequestTiming timing = new RequestTiming(Duration.ofHours(1));
+        final Request req = Mockito.mock(Request.class);
+        final Response rsp = Mockito.mock(Response.class);
+        timing.start().handle(req, rsp);
+        RequestTiming.upstream(
+            "repo_get", "/api/v1/repository/maven", "200", TimeUnit.MILLISECONDS.toNanos(12)
+        );
+        RequestTiming.add(RequestTiming.Phase.RENDER, TimeUnit.MILLISECONDS.toNanos(3));
+        timing.finish().handle(req, rsp);
+        final ArgumentCaptor<String> header = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(rsp).header(Mockito.eq("Server-Timing"), header.capture());
+        MatcherAssert.assertThat(
+            header.getValue(),
+            Matchers.startsWith("upstream;dur=12.0, render;dur=3.0, total;dur=")
+        );
+    }
+
+    @Test
+    void addsUpstreamCallsOfOtherThreads() throws Exception {
+        final RequestTiming timing = new RequestTiming(Duration.ofHours(1));
+        final Request req = Mockito.mock(Request.class);
+        final Response rsp = Mockito.mock(Response.class);
+        timing.start().handle(req, rsp);
+        try (ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            exec.submit(
+                RequestTiming.propagate(
+                    () -> RequestTiming.upstream(
+                        "repo_get", "/api/v1/repository/maven", "200",
+                        TimeUnit.MILLISECONDS.toNanos(7)
+                    )
+                )
+            ).get();
+        }
+        timing.finish().handle(req, rsp);
+        final ArgumentCaptor<String> header = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(rsp).header(Mockito.eq("Server-Timing"), header.capture());
+        MatcherAssert.assertThat(header.getValue(), Matchers.startsWith("upstream;dur=7.0, "));
+    }
+
+    @Test
+    void ignoresPhasesOutsideOfRequest() throws Exception {
+        final RequestTiming timing = new RequestTiming(Duration.ZERO);
+        final Response rsp = Mockito.mock(Response.class);
+        RequestTiming.add(RequestTiming.Phase.CONVERSION, 1L);
+        timing.finish().handle(Mockito.mock(Request.class), rsp);
+        Mockito.verifyNoInteractions(rsp);
+    }
+}
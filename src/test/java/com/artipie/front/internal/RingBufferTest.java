@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RingBuffer}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RingBufferTest {
+
+    @Test
+    void rejectsWhenFull() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        final List<Boolean> offered = IntStream.range(0, 5)
+            .mapToObj(buffer::offer).collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            offered, Matchers.contains(true, true, true, true, false)
+        );
+        MatcherAssert.assertThat(buffer.poll(), Matchers.is(0));
+        MatcherAssert.assertThat("slot is freed", buffer.offer(5), Matchers.is(true));
+    }
+
+    @Test
+    void pollsInOrder() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        final List<Integer> polled = new ArrayList<>(10);
+        for (int idx = 0; idx < 10; ++idx) {
+            buffer.offer(idx);
+            polled.add(buffer.poll());
+        }
+        MatcherAssert.assertThat(polled, Matchers.contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        MatcherAssert.assertThat(buffer.poll(), Matchers.nullValue());
+    }
+
+    @Test
+    void acceptsConcurrentProducers() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(4000);
+        CompletableFuture.allOf(
+            IntStream.range(0, 4).mapToObj(
+                thread -> CompletableFuture.runAsync(
+                    () -> IntStream.range(thread * 1000, (thread + 1) * 1000)
+                        .forEach(buffer::offer)
+                )
+            ).toArray(CompletableFuture[]::new)
+        ).join();
+        final Set<Integer> polled = new HashSet<>();
+        for (Integer item = buffer.poll(); item != null; item = buffer.poll()) {
+            polled.add(item);
+        }
+        MatcherAssert.assertThat(polled, Matchers.hasSize(4000));
+    }
+}
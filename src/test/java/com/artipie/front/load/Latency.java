@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency distribution of stub responses.
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Latency {
+    /**
+     * No latency.
+     */
+    Latency NONE = () -> 0L;
+
+    /**
+     * Next latency.
+     * @return Latency in milliseconds
+     */
+    long next();
+
+    /**
+     * Parse latency distribution: {@code fixed:10}, {@code uniform:5:50}
+     * or {@code exp:20}, where numbers are milliseconds and {@code exp}
+     * is exponential distribution with the given mean.
+     * @param spec Distribution spec
+     * @return Latency
+     */
+    static Latency parse(final String spec) {
+        final String[] parts = spec.split(":");
+        final Latency res;
+        switch (parts[0]) {
+            case "none":
+                res = Latency.NONE;
+                break;
+            case "fixed":
+                final long fixed = Long.parseLong(parts[1]);
+                res = () -> fixed;
+                break;
+            case "uniform":
+                final long min = Long.parseLong(parts[1]);
+                final long max = Long.parseLong(parts[2]);
+                res = () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+                break;
+            case "exp":
+                final double mean = Double.parseDouble(parts[1]);
+                res = () -> Math.round(
+                    -mean * Math.log(1.0 - ThreadLocalRandom.current().nextDouble())
+                );
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown latency distribution '%s'", spec)
+                );
+        }
+        return res;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.load;
+
+import com.artipie.front.internal.Histogram;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-threaded load driver of front service.
+ * Every virtual user signs in with its own session and then runs
+ * list, edit, save and remove flows in random order until the duration
+ * is over; latency of every flow is recorded.
+ * @since 1.0
+ */
+public final class LoadDriver {
+    /**
+     * CSRF token in sign in form.
+     */
+    private static final Pattern CRSF = Pattern.compile(
+        "name=\"_crsf\" type=\"hidden\" value=\"([^\"]*)\""
+    );
+
+    /**
+     * Repository configuration sent by save flow.
+     */
+    private static final String CONFIG = String.join(
+        "\n", "repo:", "  type: maven", "  storage:", "    type: fs", "    path: /var", ""
+    );
+
+    /**
+     * Front service URL.
+     */
+    private final String url;
+
+    /**
+     * Number of virtual users.
+     */
+    private final int users;
+
+    /**
+     * Number of repositories in stub.
+     */
+    private final int repos;
+
+    /**
+     * Latency by flow.
+     */
+    private final Map<Flow, Histogram> latency;
+
+    /**
+     * Failures by flow.
+     */
+    private final Map<Flow, LongAdder> failures;
+
+    /**
+     * Ctor.
+     * @param url Front service URL
+     * @param users Number of virtual users
+     * @param repos Number of repositories in stub
+     */
+    public LoadDriver(final String url, final int users, final int repos) {
+        this.url = url;
+        this.users = users;
+        this.repos = repos;
+        this.latency = new EnumMap<>(Flow.class);
+        this.failures = new EnumMap<>(Flow.class);
+        for (final Flow flow : Flow.values()) {
+            this.latency.put(flow, new Histogram());
+            this.failures.put(flow, new LongAdder());
+        }
+    }
+
+    /**
+     * Run load.
+     * @param duration Load duration
+     * @return Report
+     */
+    public String run(final Duration duration) {
+        final ExecutorService exec = Executors.newFixedThreadPool(this.users);
+        final long start = System.nanoTime();
+        final long deadline = start + duration.toNanos();
+        try {
+            CompletableFuture.allOf(
+                IntStream.range(0, this.users).mapToObj(
+                    user -> CompletableFuture.runAsync(() -> this.user(user, deadline), exec)
+                ).toArray(CompletableFuture[]::new)
+            ).join();
+        } finally {
+            exec.shutdownNow();
+        }
+        return this.report(System.nanoTime() - start);
+    }
+
+    /**
+     * Total number of successful flows.
+     * @return Number of flows
+     */
+    public long completed() {
+        return this.latency.values().stream().mapToLong(Histogram::count).sum()
+            - this.failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Virtual user.
+     * @param user User number
+     * @param deadline Deadline in nanoseconds
+     */
+    private void user(final int user, final long deadline) {
+        final HttpClient client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        this.flow(Flow.SIGNIN, () -> this.signin(client, user));
+        while (System.nanoTime() < deadline) {
+            final int dice = ThreadLocalRandom.current().nextInt(100);
+            final String repo = String.format(
+                "repo-%d", ThreadLocalRandom.current().nextInt(this.repos)
+            );
+            // @checkstyle MagicNumberCheck (20 lines)
+            if (dice < 50) {
+                this.flow(Flow.LIST, () -> this.get(client, "/dashboard/repository/list"));
+            } else if (dice < 80) {
+                this.flow(
+                    Flow.EDIT,
+                    () -> this.get(client, String.format("/dashboard/repository/edit/%s", repo))
+                );
+            } else if (dice < 95) {
+                this.flow(
+                    Flow.SAVE,
+                    () -> this.post(
+                        client, String.format("/dashboard/repository/update/%s", repo),
+                        String.format("config=%s", LoadDriver.encode(LoadDriver.CONFIG))
+                    )
+                );
+            } else {
+                this.flow(
+                    Flow.REMOVE,
+                    () -> this.post(
+                        client, String.format("/dashboard/repository/remove/%s", repo), ""
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Run flow and record its latency.
+     * @param flow Flow
+     * @param action Flow action returning response status
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void flow(final Flow flow, final Action action) {
+        final long start = System.nanoTime();
+        boolean success;
+        try {
+            // @checkstyle MagicNumberCheck (1 line)
+            success = action.status() < 400;
+        } catch (final IOException | RuntimeException err) {
+            success = false;
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+            success = false;
+        }
+        this.latency.get(flow).record(System.nanoTime() - start);
+        if (!success) {
+            this.failures.get(flow).increment();
+        }
+    }
+
+    /**
+     * Sign in flow: request sign in form and post credentials.
+     * @param client Http client
+     * @param user User number
+     * @return Response status
+     * @throws IOException On error
+     * @throws InterruptedException If interrupted
+     */
+    private int signin(final HttpClient client, final int user)
+        throws IOException, InterruptedException {
+        final HttpResponse<String> form = client.send(
+            HttpRequest.newBuilder(URI.create(String.format("%s/signin", this.url))).build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        final Matcher crsf = LoadDriver.CRSF.matcher(form.body());
+        if (!crsf.find()) {
+            throw new IllegalStateException("Sign in form has no CSRF token");
+        }
+        return this.post(
+            client, "/signin",
+            String.format(
+                "username=user-%d&password=secret&_crsf=%s",
+                user, LoadDriver.encode(crsf.group(1))
+            )
+        );
+    }
+
+    /**
+     * GET request.
+     * @param client Http client
+     * @param path Path
+     * @return Response status
+     * @throws IOException On error
+     * @throws InterruptedException If interrupted
+     */
+    private int get(final HttpClient client, final String path)
+        throws IOException, InterruptedException {
+        return client.send(
+            HttpRequest.newBuilder(URI.create(String.format("%s%s", this.url, path))).build(),
+            HttpResponse.BodyHandlers.discarding()
+        ).statusCode();
+    }
+
+    /**
+     * POST form request.
+     * @param client Http client
+     * @param path Path
+     * @param form Url-encoded form
+     * @return Response status
+     * @throws IOException On error
+     * @throws InterruptedException If interrupted
+     */
+    private int post(final HttpClient client, final String path, final String form)
+        throws IOException, InterruptedException {
+        return client.send(
+            HttpRequest.newBuilder(URI.create(String.format("%s%s", this.url, path)))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(),
+            HttpResponse.BodyHandlers.discarding()
+        ).statusCode();
+    }
+
+    /**
+     * Format report.
+     * @param elapsed Elapsed time in nanoseconds
+     * @return Report
+     */
+    private String report(final long elapsed) {
+        final double seconds = (double) elapsed / TimeUnit.SECONDS.toNanos(1);
+        final StringBuilder res = new StringBuilder(
+            String.format(
+                Locale.US, "%d users, %.1fs%n%-8s %8s %8s %8s %8s %8s %8s %8s%n",
+                this.users, seconds,
+                "flow", "count", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "max ms"
+            )
+        );
+        for (final Flow flow : Flow.values()) {
+            final Histogram hist = this.latency.get(flow);
+            res.append(
+                String.format(
+                    Locale.US, "%-8s %8d %8d %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    flow.name().toLowerCase(Locale.US), hist.count(),
+                    this.failures.get(flow).sum(), hist.count() / seconds,
+                    LoadDriver.millis(hist.quantile(0.5)), LoadDriver.millis(hist.quantile(0.9)),
+                    // @checkstyle MagicNumberCheck (1 line)
+                    LoadDriver.millis(hist.quantile(0.99)), LoadDriver.millis(hist.quantile(1.0))
+                )
+            );
+        }
+        return res.toString();
+    }
+
+    /**
+     * Nanoseconds to milliseconds.
+     * @param nanos Nanoseconds
+     * @return Milliseconds
+     */
+    private static double millis(final long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Url-encode form value.
+     * @param value Value
+     * @return Encoded value
+     */
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Load flow.
+     * @since 1.0
+     */
+    private enum Flow {
+        /**
+         * Sign in.
+         */
+        SIGNIN,
+
+        /**
+         * Repository list page.
+         */
+        LIST,
+
+        /**
+         * Repository editor page.
+         */
+        EDIT,
+
+        /**
+         * Save repository.
+         */
+        SAVE,
+
+        /**
+         * Remove repository.
+         */
+        REMOVE
+    }
+
+    /**
+     * Flow action.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    private interface Action {
+        /**
+         * Run action.
+         * @return Response status
+         * @throws IOException On error
+         * @throws InterruptedException If interrupted
+         */
+        int status() throws IOException, InterruptedException;
+    }
+}
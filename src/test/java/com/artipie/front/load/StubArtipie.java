@@ -0,0 +1,216 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * In-process stub of Artipie REST API.
+ * Serves token, settings port and repository endpoints with configurable
+ * number of repositories, size of repository configuration, latency
+ * and rate of {@code 500} errors; repository changes are accepted but
+ * not stored.
+ * @since 1.0
+ */
+public final class StubArtipie implements AutoCloseable {
+    /**
+     * Repository API path.
+     */
+    private static final String REPOSITORY = "/api/v1/repository/";
+
+    /**
+     * Number of repositories.
+     */
+    private final int repos;
+
+    /**
+     * Repository configuration body.
+     */
+    private final byte[] config;
+
+    /**
+     * Latency of responses.
+     */
+    private final Latency latency;
+
+    /**
+     * Rate of server errors, from 0 to 1.
+     */
+    private final double errors;
+
+    /**
+     * HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * Server executor.
+     */
+    private final ExecutorService exec;
+
+    /**
+     * Ctor.
+     * @param repos Number of repositories
+     * @param size Approximate size of repository configuration in bytes
+     * @param latency Latency of responses
+     * @param errors Rate of server errors, from 0 to 1
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public StubArtipie(final int repos, final int size, final Latency latency,
+        final double errors) {
+        this.repos = repos;
+        this.config = StubArtipie.config(size);
+        this.latency = latency;
+        this.errors = errors;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (final IOException err) {
+            throw new UncheckedIOException(err);
+        }
+        this.exec = Executors.newCachedThreadPool();
+        this.server.setExecutor(this.exec);
+        this.server.createContext("/api/v1/oauth/token", this::token);
+        this.server.createContext("/api/v1/settings/port", this::port);
+        this.server.createContext(StubArtipie.REPOSITORY, this::repository);
+    }
+
+    /**
+     * Start server.
+     * @return Self
+     */
+    public StubArtipie start() {
+        this.server.start();
+        return this;
+    }
+
+    /**
+     * Server URL.
+     * @return URL
+     */
+    public String url() {
+        return String.format("http://localhost:%d", this.server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.exec.shutdownNow();
+    }
+
+    /**
+     * Token endpoint.
+     * @param exchange Exchange
+     * @throws IOException On error
+     */
+    private void token(final HttpExchange exchange) throws IOException {
+        this.respond(
+            exchange,
+            Json.createObjectBuilder().add("token", "stub-token").build().toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Settings port endpoint.
+     * @param exchange Exchange
+     * @throws IOException On error
+     */
+    private void port(final HttpExchange exchange) throws IOException {
+        this.respond(
+            exchange,
+            // @checkstyle MagicNumberCheck (1 line)
+            Json.createObjectBuilder().add("port", 8081).build().toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Repository endpoints: list, get, save and remove.
+     * @param exchange Exchange
+     * @throws IOException On error
+     */
+    private void repository(final HttpExchange exchange) throws IOException {
+        final String name = exchange.getRequestURI().getPath()
+            .substring(StubArtipie.REPOSITORY.length());
+        exchange.getRequestBody().readAllBytes();
+        final byte[] body;
+        if ("GET".equals(exchange.getRequestMethod()) && name.startsWith("list")) {
+            final JsonArrayBuilder list = Json.createArrayBuilder();
+            for (int idx = 0; idx < this.repos; ++idx) {
+                list.add(String.format("repo-%d", idx));
+            }
+            body = list.build().toString().getBytes(StandardCharsets.UTF_8);
+        } else if ("GET".equals(exchange.getRequestMethod())) {
+            body = this.config;
+        } else {
+            body = new byte[0];
+        }
+        this.respond(exchange, body);
+    }
+
+    /**
+     * Respond after latency, with server error at configured rate.
+     * @param exchange Exchange
+     * @param body Response body
+     * @throws IOException On error
+     */
+    private void respond(final HttpExchange exchange, final byte[] body) throws IOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(this.latency.next());
+        } catch (final InterruptedException err) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < this.errors) {
+            // @checkstyle MagicNumberCheck (1 line)
+            exchange.sendResponseHeaders(500, -1);
+        } else {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        exchange.close();
+    }
+
+    /**
+     * Repository configuration of approximate size.
+     * @param size Size in bytes
+     * @return Configuration JSON
+     */
+    private static byte[] config(final int size) {
+        final JsonObjectBuilder settings = Json.createObjectBuilder();
+        int idx = 0;
+        // @checkstyle MagicNumberCheck (1 line)
+        while (idx * 32 < size) {
+            settings.add(String.format("setting-%d", idx), String.format("value-%016d", idx));
+            idx += 1;
+        }
+        return Json.createObjectBuilder()
+            .add(
+                "repo",
+                Json.createObjectBuilder()
+                    .add("type", "maven")
+                    .add(
+                        "storage",
+                        Json.createObjectBuilder().add("type", "fs").add("path", "/var")
+                    )
+                    .add("settings", settings)
+            ).build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.misc;
+
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link Utf8}.
+ * @since 1.0
+ */
+final class Utf8Test {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "repo: maven", "Überprüfung", "仓库", "emoji 😀"})
+    void countsBytes(final String text) {
+        MatcherAssert.assertThat(
+            Utf8.length(text),
+            Matchers.is((long) text.getBytes(StandardCharsets.UTF_8).length)
+        );
+    }
+}
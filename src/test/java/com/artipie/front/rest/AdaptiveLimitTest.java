@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AdaptiveLimit}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class AdaptiveLimitTest {
+
+    @Test
+    void rejectsBeyondLimit() {
+        final AdaptiveLimit limit = new AdaptiveLimit(2, 1, 10);
+        limit.acquire();
+        limit.acquire();
+        MatcherAssert.assertThat("rejected", limit.acquire(), Matchers.is(false));
+        MatcherAssert.assertThat("counted", limit.getRejected(), Matchers.is(1L));
+    }
+
+    @Test
+    void decreasesOnDrop() {
+        final AdaptiveLimit limit = new AdaptiveLimit(10, 1, 20);
+        limit.acquire();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+        MatcherAssert.assertThat(limit.getLimit(), Matchers.is(9));
+    }
+
+    @Test
+    void increasesWhileLatencyIsStable() {
+        final AdaptiveLimit limit = new AdaptiveLimit(4, 1, 100);
+        for (int idx = 0; idx < 50; ++idx) {
+            for (int req = 0; req < limit.getLimit(); ++req) {
+                limit.acquire();
+            }
+            while (limit.getInflight() > 0) {
+                limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+            }
+        }
+        MatcherAssert.assertThat(limit.getLimit(), Matchers.greaterThan(4));
+    }
+
+    @Test
+    void decreasesWhenLatencyGrows() {
+        final AdaptiveLimit limit = new AdaptiveLimit(50, 1, 100);
+        for (int idx = 0; idx < 50; ++idx) {
+            limit.acquire();
+        }
+        limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        for (int idx = 0; idx < 40; ++idx) {
+            limit.release(TimeUnit.SECONDS.toNanos(1), false);
+        }
+        MatcherAssert.assertThat(limit.getLimit(), Matchers.lessThan(50));
+    }
+}
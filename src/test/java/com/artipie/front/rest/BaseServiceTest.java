@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import com.artipie.front.internal.Metrics;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BaseService}.
+ * @since 1.0
+ */
+final class BaseServiceTest {
+    /**
+     * Response body.
+     */
+    private static final byte[] BODY = "[\"maven\"]".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Response body with non-ASCII characters, 9 characters and 14 bytes long.
+     */
+    private static final byte[] UNICODE = "[\"\u043c\u0430\u0432\u0435\u043d\"]"
+        .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Stub Artipie server.
+     */
+    private HttpServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(
+            "/api/v1/repository/list",
+            exchange -> {
+                exchange.sendResponseHeaders(200, BaseServiceTest.BODY.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(BaseServiceTest.BODY);
+                }
+            }
+        );
+        this.server.createContext(
+            "/api/v1/repository/chunked",
+            exchange -> {
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(BaseServiceTest.UNICODE);
+                }
+            }
+        );
+        this.server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void recordsUpstreamCall() {
+        final Metrics metrics = new Metrics();
+        new BaseService(
+            String.format("http://localhost:%d", this.server.getAddress().getPort()),
+            new AdaptiveLimit(), metrics
+        ).httpGet("repo_list", Optional.empty(), "/api/v1/repository/list");
+        MatcherAssert.assertThat(
+            metrics.prometheus(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "front_upstream_request_duration_seconds_count{operation=\"repo_list\"} 1"
+                ),
+                Matchers.containsString(
+                    "front_upstream_responses_total{operation=\"repo_list\",status=\"200\"} 1"
+                ),
+                Matchers.containsString(
+                    "front_upstream_response_bytes_total{operation=\"repo_list\"} 9"
+                )
+            )
+        );
+    }
+
+    @Test
+    void countsBytesOfChunkedResponse() {
+        final Metrics metrics = new Metrics();
+        new BaseService(
+            String.format("http://localhost:%d", this.server.getAddress().getPort()),
+            new AdaptiveLimit(), metrics
+        ).httpGet("repo_list", Optional.empty(), "/api/v1/repository/chunked");
+        MatcherAssert.assertThat(
+            metrics.prometheus(),
+            Matchers.containsString(
+                "front_upstream_response_bytes_total{operation=\"repo_list\"} 14"
+            )
+        );
+    }
+
+    @Test
+    void joinsUriWithSingleSlash() throws URISyntaxException {
+        MatcherAssert.assertThat(
+            new BaseService("http://localhost:8086/").uri("/api/v1/repository/list")
+                .toString(),
+            Matchers.equalTo("http://localhost:8086/api/v1/repository/list")
+        );
+    }
+}
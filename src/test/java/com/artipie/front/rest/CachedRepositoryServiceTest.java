@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import com.artipie.front.internal.Metrics;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CachedRepositoryService}.
+ * @since 1.0
+ */
+final class CachedRepositoryServiceTest {
+    /**
+     * Stub Artipie server.
+     */
+    private HttpServer server;
+
+    /**
+     * Number of upstream calls.
+     */
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.calls = new AtomicInteger();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(
+            "/api/v1/repository/list",
+            exchange -> this.respond(exchange, "[\"maven\",\"npm\"]")
+        );
+        this.server.createContext(
+            "/api/v1/repository/maven",
+            exchange -> this.respond(exchange, "{\"repo\":{\"type\":\"maven\"}}")
+        );
+        this.server.createContext(
+            "/api/v1/repository/npm",
+            exchange -> this.respond(exchange, "{\"repo\":{\"type\":\"npm\"}}")
+        );
+        this.server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void servesRepeatedCallsFromCache() {
+        final CachedRepositoryService service = this.service();
+        service.list("token");
+        service.list("token");
+        service.repo("token", "maven");
+        service.repo("token", "maven");
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    @Test
+    void prefetchesRepositories() throws InterruptedException {
+        final CachedRepositoryService service = this.service();
+        service.warm("token");
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        // @checkstyle MagicNumberCheck (1 line)
+        while (this.calls.get() < 3 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        service.list("token");
+        service.repo("token", "maven");
+        service.repo("token", "npm");
+        // @checkstyle MagicNumberCheck (1 line)
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(3));
+    }
+
+    @Test
+    void prefetchesOutsideSharedLimit() throws InterruptedException {
+        final AdaptiveLimit limit = new AdaptiveLimit(1, 1, 1);
+        limit.acquire();
+        this.service(limit).warm("token");
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        // @checkstyle MagicNumberCheck (1 line)
+        while (this.calls.get() < 3 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        // @checkstyle MagicNumberCheck (1 line)
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(limit.getRejected(), Matchers.equalTo(0L));
+    }
+
+    @Test
+    void invalidatesOnlyTokenWhichChangedRepository() {
+        final CachedRepositoryService service = this.service();
+        service.list("first");
+        service.list("second");
+        service.remove("first", CachedRepositoryServiceTest.name("maven"));
+        service.list("first");
+        service.list("second");
+        // @checkstyle MagicNumberCheck (1 line)
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(4));
+    }
+
+    @Test
+    void editorReadsFreshConfiguration() {
+        final CachedRepositoryService service = this.service();
+        service.repo("token", "maven");
+        service.repo("token", CachedRepositoryServiceTest.name("maven"));
+        MatcherAssert.assertThat(this.calls.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Service with stub Artipie.
+     * @return Service
+     */
+    private CachedRepositoryService service() {
+        return this.service(new AdaptiveLimit());
+    }
+
+    /**
+     * Service with stub Artipie.
+     * @param limit Limit of in-flight upstream requests
+     * @return Service
+     */
+    private CachedRepositoryService service(final AdaptiveLimit limit) {
+        return new CachedRepositoryService(
+            String.format("http://localhost:%d", this.server.getAddress().getPort()),
+            limit, new Metrics(), Duration.ofMinutes(1)
+        );
+    }
+
+    /**
+     * Repository name.
+     * @param name Name
+     * @return Repository name
+     */
+    private static RepositoryName name(final String name) {
+        return new RepositoryName() {
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * Respond with JSON and count the call.
+     * @param exchange Exchange
+     * @param body Response body
+     * @throws IOException On error
+     */
+    private void respond(final HttpExchange exchange, final String body) throws IOException {
+        this.calls.incrementAndGet();
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link JwtToken}.
+ * @since 1.0
+ */
+final class JwtTokenTest {
+
+    @Test
+    void readsExpiry() {
+        MatcherAssert.assertThat(
+            new JwtToken(JwtTokenTest.jwt("{\"sub\":\"alice\",\"exp\":1700000000}")).expiry(),
+            // @checkstyle MagicNumberCheck (1 line)
+            Matchers.equalTo(Optional.of(Instant.ofEpochSecond(1_700_000_000L)))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"opaque-token", "a.!!!.c", "a.b.c", ""})
+    void hasNoExpiryIfNotJwt(final String token) {
+        MatcherAssert.assertThat(
+            new JwtToken(token).expiry(),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    @Test
+    void hasNoExpiryWithoutClaim() {
+        MatcherAssert.assertThat(
+            new JwtToken(JwtTokenTest.jwt("{\"sub\":\"alice\"}")).expiry(),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    /**
+     * Unsigned JWT with claims.
+     * @param claims Claims JSON
+     * @return Token
+     */
+    private static String jwt(final String claims) {
+        final Base64.Encoder enc = Base64.getUrlEncoder().withoutPadding();
+        return String.join(
+            ".",
+            enc.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)),
+            enc.encodeToString(claims.getBytes(StandardCharsets.UTF_8)),
+            "signature"
+        );
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.rest;
+
+import com.artipie.front.internal.Metrics;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link UpstreamProbe}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class UpstreamProbeTest {
+    /**
+     * Status returned by stub Artipie.
+     */
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    /**
+     * Metrics of probe requests.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Stub Artipie server.
+     */
+    private HttpServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(
+            "/api/v1/settings/port",
+            exchange -> {
+                exchange.sendResponseHeaders(this.status.get(), -1);
+                exchange.close();
+            }
+        );
+        this.server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void notReachableBeforeProbe() {
+        MatcherAssert.assertThat(this.probe().reachable(), Matchers.is(false));
+    }
+
+    @Test
+    void reachableAfterSuccessfulProbe() {
+        final UpstreamProbe probe = this.probe();
+        probe.probe();
+        MatcherAssert.assertThat(probe.reachable(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            this.metrics.prometheus(),
+            Matchers.containsString(
+                "front_upstream_responses_total{operation=\"probe\",status=\"200\"} 1"
+            )
+        );
+    }
+
+    @Test
+    void notReachableAfterServerErrorsInRow() {
+        final UpstreamProbe probe = this.probe();
+        probe.probe();
+        this.status.set(502);
+        probe.probe();
+        probe.probe();
+        MatcherAssert.assertThat(probe.reachable(), Matchers.is(true));
+        probe.probe();
+        MatcherAssert.assertThat(probe.reachable(), Matchers.is(false));
+        MatcherAssert.assertThat(
+            this.metrics.prometheus(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "front_upstream_responses_total{operation=\"probe\",status=\"200\"} 1"
+                ),
+                Matchers.containsString(
+                    "front_upstream_responses_total{operation=\"probe\",status=\"502\"} 3"
+                )
+            )
+        );
+    }
+
+    @Test
+    void staysReachableAfterSingleFailure() {
+        final UpstreamProbe probe = this.probe();
+        probe.probe();
+        this.status.set(502);
+        probe.probe();
+        this.status.set(200);
+        probe.probe();
+        this.status.set(502);
+        probe.probe();
+        probe.probe();
+        MatcherAssert.assertThat(probe.reachable(), Matchers.is(true));
+    }
+
+    @Test
+    void notReachableOnFailureBeforeSuccess() {
+        this.status.set(502);
+        final UpstreamProbe probe = this.probe();
+        probe.probe();
+        MatcherAssert.assertThat(probe.reachable(), Matchers.is(false));
+    }
+
+    @Test
+    void notReachableWhenDown() {
+        final UpstreamProbe probe = this.probe();
+        this.server.stop(0);
+        probe.probe();
+        MatcherAssert.assertThat(probe.reachable(), Matchers.is(false));
+    }
+
+    /**
+     * Probe of stub Artipie.
+     * @return Probe
+     */
+    private UpstreamProbe probe() {
+        return new UpstreamProbe(
+            String.format("http://localhost:%d", this.server.getAddress().getPort()),
+            this.metrics, Duration.ofMinutes(1), Duration.ofSeconds(2), 3
+        );
+    }
+}
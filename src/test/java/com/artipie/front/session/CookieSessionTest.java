@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CookieSession} and {@link SessionCipher}.
+ * @since 1.0
+ */
+final class CookieSessionTest {
+
+    @Test
+    void readsSealedSession() {
+        final SessionCipher cipher = new SessionCipher("secret");
+        final CookieSession session = new CookieSession(null, saved -> { });
+        session.setAttribute("uid", "alice");
+        // @checkstyle MagicNumberCheck (1 line)
+        session.setAttribute("token_exp", 1_700_000_000L);
+        final Instant now = Instant.now();
+        final CookieSession read = cipher.open(cipher.seal(session.json(now.plusSeconds(60))))
+            .flatMap(json -> CookieSession.read(json, now, null, saved -> { }))
+            .orElseThrow();
+        MatcherAssert.assertThat(read.getId(), Matchers.equalTo(session.getId()));
+        MatcherAssert.assertThat(read.getAttribute("uid"), Matchers.equalTo("alice"));
+        MatcherAssert.assertThat(
+            read.getAttribute("token_exp"),
+            // @checkstyle MagicNumberCheck (1 line)
+            Matchers.equalTo(1_700_000_000L)
+        );
+    }
+
+    @Test
+    void rejectsExpiredSession() {
+        final CookieSession session = new CookieSession(null, saved -> { });
+        session.setAttribute("uid", "bob");
+        final Instant now = Instant.now();
+        MatcherAssert.assertThat(
+            CookieSession.read(
+                session.json(now.minus(Duration.ofMinutes(1))), now, null, saved -> { }
+            ),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    @Test
+    void rejectsTamperedCookie() {
+        final SessionCipher cipher = new SessionCipher("secret");
+        final char[] sealed = cipher.seal("{}".getBytes(StandardCharsets.UTF_8)).toCharArray();
+        sealed[sealed.length / 2] = (char) (sealed[sealed.length / 2] ^ 1);
+        MatcherAssert.assertThat(
+            cipher.open(new String(sealed)).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsCookieOfOtherSecret() {
+        MatcherAssert.assertThat(
+            new SessionCipher("other").open(
+                new SessionCipher("secret").seal("{}".getBytes(StandardCharsets.UTF_8))
+            ).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void savesOnChange() {
+        final int[] saves = new int[1];
+        final CookieSession session = new CookieSession(null, saved -> saves[0] += 1);
+        session.setAttribute("crsf", "abc");
+        session.removeAttribute("crsf");
+        session.removeAttribute("crsf");
+        session.invalidate();
+        MatcherAssert.assertThat(saves[0], Matchers.equalTo(3));
+        MatcherAssert.assertThat(session.invalid(), Matchers.is(true));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MemoryStore}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class MemoryStoreTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final MemoryStore store = new MemoryStore(2, Duration.ofHours(1));
+        store.save("a", MemoryStoreTest.data("a"), 0L);
+        store.save("b", MemoryStoreTest.data("b"), 0L);
+        store.load("a");
+        store.save("c", MemoryStoreTest.data("c"), 0L);
+        MatcherAssert.assertThat(store.load("b").isPresent(), Matchers.is(false));
+        MatcherAssert.assertThat(store.load("c").isPresent(), Matchers.is(true));
+        MatcherAssert.assertThat(store.evicted(), Matchers.equalTo(1L));
+    }
+
+    @Test
+    void evictsIdleSessions() {
+        final MemoryStore store = new MemoryStore(2, Duration.ZERO);
+        store.save("a", MemoryStoreTest.data("a"), 0L);
+        MatcherAssert.assertThat(store.load("a").isPresent(), Matchers.is(false));
+        MatcherAssert.assertThat(store.size(), Matchers.equalTo(0));
+    }
+
+    @Test
+    void findsExpiredSessions() {
+        final MemoryStore store = new MemoryStore(3, Duration.ofHours(1));
+        store.save("a", MemoryStoreTest.data("a"), 100L);
+        store.save("b", MemoryStoreTest.data("b"), 300L);
+        store.save("c", MemoryStoreTest.data("c"), 0L);
+        MatcherAssert.assertThat(store.expired(200L), Matchers.contains("a"));
+    }
+
+    @Test
+    void loadsSavedSession() {
+        final MemoryStore store = new MemoryStore(2, Duration.ofHours(1));
+        store.save("a", MemoryStoreTest.data("first"), 0L);
+        store.save("a", MemoryStoreTest.data("second"), 0L);
+        MatcherAssert.assertThat(
+            new String(store.load("a").orElseThrow(), StandardCharsets.UTF_8),
+            Matchers.equalTo("second")
+        );
+        store.delete("a");
+        MatcherAssert.assertThat(store.load("a").isPresent(), Matchers.is(false));
+    }
+
+    /**
+     * Session data.
+     * @param text Text
+     * @return Bytes
+     */
+    private static byte[] data(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
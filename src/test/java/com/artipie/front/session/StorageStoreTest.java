@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.session;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.blocking.BlockingStorage;
+import com.artipie.asto.memory.InMemoryStorage;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link StorageStore}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class StorageStoreTest {
+    /**
+     * Session secret.
+     */
+    private static final String SECRET = "secret";
+
+    @Test
+    void storesSessions() {
+        final StorageStore store = new StorageStore(new InMemoryStorage(), StorageStoreTest.SECRET);
+        store.save("node0abc", "{}".getBytes(StandardCharsets.UTF_8), 100);
+        store.save("node0abc", "{\"a\":1}".getBytes(StandardCharsets.UTF_8), 200);
+        store.save("node0def", "{}".getBytes(StandardCharsets.UTF_8), 100);
+        MatcherAssert.assertThat(
+            new String(store.load("node0abc").orElseThrow(), StandardCharsets.UTF_8),
+            Matchers.equalTo("{\"a\":1}")
+        );
+        store.delete("node0abc");
+        store.delete("node0xyz");
+        MatcherAssert.assertThat(store.load("node0abc").isPresent(), Matchers.is(false));
+        MatcherAssert.assertThat(store.load("node0def").isPresent(), Matchers.is(true));
+    }
+
+    @Test
+    void encryptsSessions() {
+        final InMemoryStorage storage = new InMemoryStorage();
+        new StorageStore(storage, StorageStoreTest.SECRET)
+            .save("node0abc", "{\"token\":\"jwt\"}".getBytes(StandardCharsets.UTF_8), 100);
+        final BlockingStorage blocking = new BlockingStorage(storage);
+        MatcherAssert.assertThat(
+            new String(
+                blocking.value(blocking.list(new Key.From("sessions")).iterator().next()),
+                StandardCharsets.US_ASCII
+            ),
+            Matchers.not(Matchers.containsString("jwt"))
+        );
+        MatcherAssert.assertThat(
+            new StorageStore(storage, "other").load("node0abc").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsExpiredSessions() {
+        final StorageStore store = new StorageStore(new InMemoryStorage(), StorageStoreTest.SECRET);
+        store.save("node0abc", "{}".getBytes(StandardCharsets.UTF_8), 100);
+        store.save("node0def", "{}".getBytes(StandardCharsets.UTF_8), 300);
+        store.save("node0xyz", "{}".getBytes(StandardCharsets.UTF_8), 0);
+        store.save("node0def", "{}".getBytes(StandardCharsets.UTF_8), 100);
+        store.save("node0abc", "{}".getBytes(StandardCharsets.UTF_8), 300);
+        MatcherAssert.assertThat(store.expired(200), Matchers.contains("node0def"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link TraceParent}.
+ * @since 1.0
+ */
+final class TraceParentTest {
+
+    @Test
+    void parsesHeader() {
+        final TraceParent parent = TraceParent.parse(
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"
+        ).orElseThrow();
+        MatcherAssert.assertThat(
+            parent.traceId(), Matchers.equalTo("4bf92f3577b34da6a3ce929d0e0e4736")
+        );
+        MatcherAssert.assertThat(parent.spanId(), Matchers.equalTo("00f067aa0ba902b7"));
+        MatcherAssert.assertThat(parent.sampled(), Matchers.is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra",
+            "ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+            "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+            "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"
+        }
+    )
+    void rejectsInvalidHeader(final String header) {
+        MatcherAssert.assertThat(TraceParent.parse(header).isPresent(), Matchers.is(false));
+    }
+
+    @Test
+    void keepsTraceInChild() {
+        final TraceParent parent = TraceParent.generate();
+        final TraceParent child = parent.child();
+        MatcherAssert.assertThat(child.traceId(), Matchers.equalTo(parent.traceId()));
+        MatcherAssert.assertThat(child.spanId(), Matchers.not(parent.spanId()));
+        MatcherAssert.assertThat(
+            TraceParent.parse(child.toString()).map(TraceParent::spanId).orElseThrow(),
+            Matchers.equalTo(child.spanId())
+        );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.trace;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link Tracing}.
+ * @since 1.0
+ */
+final class TracingTest {
+
+    @Test
+    void propagatesTraceToOtherThread() throws Exception {
+        final List<Span> spans = new CopyOnWriteArrayList<>();
+        final Tracing tracing = new Tracing(spans::add);
+        final Request req = Mockito.mock(Request.class);
+        final Response rsp = Mockito.mock(Response.class);
+        tracing.start().handle(req, rsp);
+        try (ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor()) {
+            exec.submit(
+                Tracing.propagate(
+                    () -> Tracing.outbound("repo_get").orElseThrow().end("/api", "200")
+                )
+            ).get();
+            MatcherAssert.assertThat(
+                exec.submit(() -> Tracing.outbound("repo_get")).get(),
+                Matchers.equalTo(Optional.empty())
+            );
+        }
+        tracing.finish().handle(req, rsp);
+        MatcherAssert.assertThat(spans, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            spans.get(0).context().traceId(),
+            Matchers.equalTo(spans.get(1).context().traceId())
+        );
+    }
+
+    @Test
+    void tracesBackgroundTask() {
+        final List<Span> spans = new CopyOnWriteArrayList<>();
+        new Tracing(spans::add).background(
+            "refresh", () -> Tracing.outbound("repo_list").orElseThrow().end("/api", "200")
+        ).run();
+        MatcherAssert.assertThat(spans, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            spans.get(1).json().getString("kind"),
+            Matchers.equalTo("internal")
+        );
+        MatcherAssert.assertThat(Tracing.outbound("repo_list"), Matchers.equalTo(Optional.empty()));
+    }
+}
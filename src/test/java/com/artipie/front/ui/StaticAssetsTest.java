@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.ui;
+
+import org.eclipse.jetty.http.HttpStatus;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Test case for {@link StaticAssets}.
+ * @since 1.0
+ */
+final class StaticAssetsTest {
+
+    @Test
+    void fingerprintsAssetUrl() {
+        MatcherAssert.assertThat(
+            new StaticAssets("public").url("/css/style.css"),
+            Matchers.matchesPattern("/assets/css/style\\.[0-9a-f]{16}\\.css")
+        );
+    }
+
+    @Test
+    void keepsUnknownPath() {
+        MatcherAssert.assertThat(
+            new StaticAssets("public").url("/css/unknown.css"),
+            Matchers.equalTo("/css/unknown.css")
+        );
+    }
+
+    @Test
+    void servesImmutableAsset() {
+        final StaticAssets assets = new StaticAssets("public");
+        final var req = Mockito.mock(Request.class);
+        final var rsp = Mockito.mock(Response.class);
+        Mockito.when(req.splat()).thenReturn(
+            new String[] {assets.url("/css/style.css").substring("/assets/".length())}
+        );
+        MatcherAssert.assertThat(
+            (byte[]) assets.handle(req, rsp),
+            Matchers.not(Matchers.equalTo(new byte[0]))
+        );
+        Mockito.verify(rsp).type("text/css");
+        Mockito.verify(rsp).header("Cache-Control", "public, max-age=31536000, immutable");
+    }
+
+    @Test
+    void servesAssetByOriginalPath() throws Exception {
+        final var req = Mockito.mock(Request.class);
+        final var rsp = Mockito.mock(Response.class);
+        Mockito.when(req.pathInfo()).thenReturn("/scripts/jquery-3.6.1.min.js");
+        MatcherAssert.assertThat(
+            (byte[]) new StaticAssets("public").original().handle(req, rsp),
+            Matchers.not(Matchers.equalTo(new byte[0]))
+        );
+        Mockito.verify(rsp).type("application/javascript");
+        Mockito.verify(rsp).header("Cache-Control", "no-cache");
+    }
+
+    @Test
+    void rejectsUnknownOriginalPath() {
+        final var req = Mockito.mock(Request.class);
+        Mockito.when(req.pathInfo()).thenReturn("/css/unknown.css");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                HaltException.class,
+                () -> new StaticAssets("public").original()
+                    .handle(req, Mockito.mock(Response.class))
+            ).statusCode(),
+            Matchers.equalTo(HttpStatus.NOT_FOUND_404)
+        );
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2022-2023 artipie.com
+ * https://github.com/artipie/front/LICENSE.txt
+ */
+package com.artipie.front.ui.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RepoPage}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class RepoPageTest {
+    /**
+     * Repository names.
+     */
+    private static final List<String> NAMES = IntStream.range(0, 55)
+        .mapToObj(num -> String.format("repo-%02d", num))
+        .collect(Collectors.toList());
+
+    @Test
+    void slicesPage() {
+        final RepoPage page = new RepoPage(RepoPageTest.NAMES, "", "name", 3, 25);
+        MatcherAssert.assertThat(
+            page.names(), Matchers.contains("repo-50", "repo-51", "repo-52", "repo-53", "repo-54")
+        );
+        MatcherAssert.assertThat(page.pages(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(page.params(), Matchers.not(Matchers.hasKey("next")));
+        MatcherAssert.assertThat(
+            page.params(),
+            Matchers.hasEntry("prev", "?page=2&size=25&sort=name&filter=")
+        );
+    }
+
+    @Test
+    void sortsDescending() {
+        MatcherAssert.assertThat(
+            new RepoPage(RepoPageTest.NAMES, "", "-name", 1, 2).names(),
+            Matchers.contains("repo-54", "repo-53")
+        );
+    }
+
+    @Test
+    void filtersIgnoringCase() {
+        final RepoPage page = new RepoPage(RepoPageTest.NAMES, "REPO-1", "name", 1, 25);
+        MatcherAssert.assertThat(page.names(), Matchers.hasSize(10));
+        MatcherAssert.assertThat(page.params(), Matchers.hasEntry("total", 10));
+    }
+
+    @Test
+    void clampsPageAndSize() {
+        final RepoPage page = new RepoPage(RepoPageTest.NAMES, "", "name", 100, 1000);
+        MatcherAssert.assertThat(page.names(), Matchers.hasSize(55));
+        MatcherAssert.assertThat(page.params(), Matchers.hasEntry("page", 1));
+        MatcherAssert.assertThat(
+            new RepoPage(List.of(), "", "name", 0, 0).names(), Matchers.empty()
+        );
+    }
+}